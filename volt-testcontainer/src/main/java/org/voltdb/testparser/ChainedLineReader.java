@@ -0,0 +1,79 @@
+/*
+ * Copyright (C) 2025-2026 Volt Active Data Inc.
+ *
+ * Use of this source code is governed by an MIT
+ * license that can be found in the LICENSE file or at
+ * https://opensource.org/licenses/MIT.
+ */
+package org.voltdb.testparser;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Reads the lines of several files in turn, as one script. Used for
+ * a 'file -batch' of several files, which are executed as one batch.
+ * Line numbers run on across the files.
+ */
+class ChainedLineReader implements SQLCommandLineReader, AutoCloseable {
+    private final List<MappedFileReader> m_readers;
+    private int m_current = 0;
+    private int m_lineNum = 0;
+
+    /**
+     * @param readers the files to read, in order; closed by this reader
+     */
+    ChainedLineReader(List<MappedFileReader> readers) {
+        m_readers = new ArrayList<>(readers);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public String readBatchLine() throws IOException {
+        m_lineNum++;
+        while (m_current < m_readers.size()) {
+            String line = m_readers.get(m_current).readBatchLine();
+            if (line != null) {
+                return line;
+            }
+            m_readers.get(m_current++).close();
+        }
+        return null;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public boolean readBatchLine(StringBuilder text) throws IOException {
+        m_lineNum++;
+        while (m_current < m_readers.size()) {
+            if (m_readers.get(m_current).readBatchLine(text)) {
+                return true;
+            }
+            m_readers.get(m_current++).close();
+        }
+        return false;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public int getLineNumber() {
+        return m_lineNum;
+    }
+
+    /**
+     * Closes all the files.
+     */
+    @Override
+    public void close() {
+        for (MappedFileReader reader : m_readers) {
+            reader.close();
+        }
+    }
+}
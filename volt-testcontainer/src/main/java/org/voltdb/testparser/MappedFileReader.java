@@ -0,0 +1,218 @@
+/*
+ * Copyright (C) 2025-2026 Volt Active Data Inc.
+ *
+ * Use of this source code is governed by an MIT
+ * license that can be found in the LICENSE file or at
+ * https://opensource.org/licenses/MIT.
+ */
+package org.voltdb.testparser;
+
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.IOException;
+import java.nio.CharBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.Charset;
+import java.nio.charset.CharsetDecoder;
+import java.nio.charset.CoderResult;
+import java.nio.charset.CodingErrorAction;
+
+/**
+ * Reads a script file as an SQLCommandLineReader by memory-mapping it and
+ * decoding it in large chunks, so a large script is never held in the heap
+ * as a whole; only the chunk being scanned and the current line are.
+ * <p>
+ * Lines end at '\n', '\r' or "\r\n", as with BufferedReader.readLine(),
+ * and malformed input is replaced as an InputStreamReader would.
+ */
+class MappedFileReader implements SQLCommandLineReader, AutoCloseable {
+    private static final int MAP_WINDOW_BYTES = 64 * 1024 * 1024;
+    private static final int CHUNK_CHARS = 256 * 1024;
+
+    private final FileChannel m_channel;
+    private final long m_size;
+    private final int m_windowBytes;
+    private final CharsetDecoder m_decoder;
+    private final CharBuffer m_chars;
+    private MappedByteBuffer m_bytes;
+    // File offset of the start of m_bytes.
+    private long m_windowStart = 0;
+    private boolean m_decoded = false;
+    // A '\r' ended the last line, so a following '\n' is part of that line end.
+    private boolean m_skipLF = false;
+    private int m_lineNum = 0;
+
+    /**
+     * @param file    the script to read
+     * @param charset the charset of the script
+     * @throws java.io.FileNotFoundException if the file cannot be opened
+     * @throws IOException if the file cannot be mapped
+     */
+    MappedFileReader(File file, Charset charset) throws IOException {
+        this(file, charset, MAP_WINDOW_BYTES, CHUNK_CHARS);
+    }
+
+    // Package access for unit tests, which use small sizes to cross window and chunk boundaries.
+    MappedFileReader(File file, Charset charset, int windowBytes, int chunkChars) throws IOException {
+        m_channel = new FileInputStream(file).getChannel();
+        try {
+            m_size = m_channel.size();
+            m_windowBytes = windowBytes;
+            m_bytes = map(0);
+        } catch (IOException ex) {
+            m_channel.close();
+            throw ex;
+        }
+        m_decoder = charset.newDecoder()
+                .onMalformedInput(CodingErrorAction.REPLACE)
+                .onUnmappableCharacter(CodingErrorAction.REPLACE);
+        // at least room for a surrogate pair, which is decoded in one step
+        m_chars = CharBuffer.allocate(Math.max(2, chunkChars));
+        m_chars.flip();
+    }
+
+    private MappedByteBuffer map(long start) throws IOException {
+        m_windowStart = start;
+        return m_channel.map(FileChannel.MapMode.READ_ONLY, start, Math.min(m_windowBytes, m_size - start));
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public String readBatchLine() throws IOException {
+        // Counted on every call, including the one that finds the end of the file, as a batch expects.
+        m_lineNum++;
+        StringBuilder partial = null;
+        while (hasChars()) {
+            int start = m_chars.position();
+            int end = scanLine();
+            if (m_chars.position() > end) {
+                if (partial == null) {
+                    return new String(m_chars.array(), m_chars.arrayOffset() + start, end - start);
+                }
+                return partial.append(m_chars.array(), m_chars.arrayOffset() + start, end - start).toString();
+            }
+            // The line continues in the next chunk.
+            if (partial == null) {
+                partial = new StringBuilder();
+            }
+            partial.append(m_chars.array(), m_chars.arrayOffset() + start, end - start);
+        }
+        return partial == null ? null : partial.toString();
+    }
+
+    /**
+     * {@inheritDoc}
+     * <p>
+     * The line is copied from the decoded chunk straight into {@code text}.
+     */
+    @Override
+    public boolean readBatchLine(StringBuilder text) throws IOException {
+        m_lineNum++;
+        boolean read = false;
+        while (hasChars()) {
+            read = true;
+            int start = m_chars.position();
+            int end = scanLine();
+            text.append(m_chars.array(), m_chars.arrayOffset() + start, end - start);
+            if (m_chars.position() > end) {
+                break;
+            }
+        }
+        if (read) {
+            text.append('\n');
+        }
+        return read;
+    }
+
+    /**
+     * Makes sure m_chars has characters to scan, skipping the '\n' of a
+     * "\r\n" whose '\r' ended the last line.
+     *
+     * @return false at the end of the file
+     */
+    private boolean hasChars() throws IOException {
+        while (m_chars.hasRemaining() || fill()) {
+            if (!m_skipLF) {
+                return true;
+            }
+            m_skipLF = false;
+            if (m_chars.get(m_chars.position()) == '\n') {
+                m_chars.position(m_chars.position() + 1);
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Scans m_chars for the end of the current line.
+     *
+     * @return the end of the line, with m_chars positioned past its line
+     * terminator; or the end of the chunk, with m_chars positioned there,
+     * if the line continues in the next chunk
+     */
+    private int scanLine() {
+        int limit = m_chars.limit();
+        for (int ii = m_chars.position(); ii < limit; ii++) {
+            char c = m_chars.get(ii);
+            if (c == '\n' || c == '\r') {
+                m_skipLF = (c == '\r');
+                m_chars.position(ii + 1);
+                return ii;
+            }
+        }
+        m_chars.position(limit);
+        return limit;
+    }
+
+    /**
+     * Decodes the next chunk of the file into m_chars, mapping the next
+     * window of the file when the current one is used up. Bytes of a
+     * character split across windows are decoded from the next window.
+     *
+     * @return false at the end of the file
+     */
+    private boolean fill() throws IOException {
+        m_chars.clear();
+        while (m_chars.hasRemaining() && !m_decoded) {
+            boolean lastWindow = m_windowStart + m_bytes.limit() >= m_size;
+            CoderResult result = m_decoder.decode(m_bytes, m_chars, lastWindow);
+            if (result.isOverflow()) {
+                break;
+            }
+            if (result.isError()) {
+                result.throwException();
+            }
+            if (lastWindow) {
+                m_decoder.flush(m_chars);
+                m_decoded = true;
+            } else {
+                m_bytes = map(m_windowStart + m_bytes.position());
+            }
+        }
+        m_chars.flip();
+        return m_chars.hasRemaining();
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public int getLineNumber() {
+        return m_lineNum;
+    }
+
+    /**
+     * Closes the file. The mapping itself is released once it is no longer reachable.
+     */
+    @Override
+    public void close() {
+        try {
+            m_channel.close();
+        } catch (IOException e) {
+            // nothing can be done about it; the file was only read
+        }
+    }
+}
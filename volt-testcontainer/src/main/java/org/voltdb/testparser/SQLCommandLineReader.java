@@ -24,6 +24,23 @@ interface SQLCommandLineReader {
      */
     String readBatchLine() throws IOException;
 
+    /**
+     * Reads the next line of input, as {@link #readBatchLine()} does, and
+     * appends it and a newline to a batch being collected.
+     *
+     * @param text the batch to append the line to
+     * @return false, with nothing appended, at the end of the input
+     * @throws java.io.IOException if any.
+     */
+    default boolean readBatchLine(StringBuilder text) throws IOException {
+        String line = readBatchLine();
+        if (line == null) {
+            return false;
+        }
+        text.append(line).append('\n');
+        return true;
+    }
+
     /**
      * Return the line number of the most recently read line.
      *
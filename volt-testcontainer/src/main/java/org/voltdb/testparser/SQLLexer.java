@@ -176,7 +176,7 @@ public class SQLLexer extends SQLPatternFactory
      * Get the DDL token, if any, at the start of this statement.
      * @return returns token, or null if it wasn't DDL
      */
-    public static String extractDDLToken(String sql)
+    public static String extractDDLToken(CharSequence sql)
     {
         String ddlToken = null;
         Matcher ddlMatcher = PAT_ANY_DDL_FIRST_TOKEN.matcher(sql);
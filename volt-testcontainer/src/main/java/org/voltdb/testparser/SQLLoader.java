@@ -11,24 +11,28 @@ import org.voltdb.VoltTable;
 import org.voltdb.VoltType;
 import org.voltdb.client.BatchTimeoutOverrideType;
 import org.voltdb.client.Client;
+import org.voltdb.client.Client2;
+import org.voltdb.client.Client2CallOptions;
 import org.voltdb.client.ClientConfig;
 import org.voltdb.client.ClientFactory;
 import org.voltdb.client.ClientResponse;
 import org.voltdb.client.ProcCallException;
 
 import java.io.EOFException;
-import java.io.FileInputStream;
 import java.io.FileNotFoundException;
 import java.io.IOException;
-import java.io.InputStreamReader;
 import java.io.PrintStream;
-import java.io.StringReader;
 import java.net.UnknownHostException;
+import java.nio.CharBuffer;
 import java.nio.charset.Charset;
 import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
 import java.util.TimeZone;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.TimeUnit;
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
 
@@ -39,7 +43,18 @@ public class SQLLoader {
     private final int m_batchTimeout = BatchTimeoutOverrideType.DEFAULT_TIMEOUT;
     private final Charset m_charset = StandardCharsets.UTF_8;
 
+    // Exactly one of these is set, depending on which constructor was used.
     private final Client m_client;
+    private final Client2 m_client2;
+
+    // Set by --auto-batch: consecutive DDL statements go to the server as one batch.
+    private boolean m_autoBatchDDL = false;
+
+    // Set by --pipeline: keeps DML statements in flight without waiting for each response.
+    private StatementPipeline m_pipeline = null;
+    private static final int DEFAULT_PIPELINE_WINDOW = 500;
+    private static final Pattern DML_STATEMENT = Pattern.compile(
+            "^\\s*(INSERT|UPSERT|UPDATE|DELETE)\\b", Pattern.CASE_INSENSITIVE);
 
     /**
      * <p>Constructor for SQLLoader.</p>
@@ -48,6 +63,17 @@ public class SQLLoader {
      */
     public SQLLoader(Client client) {
         this.m_client = client;
+        this.m_client2 = null;
+    }
+
+    /**
+     * <p>Constructor for SQLLoader.</p>
+     *
+     * @param client a {@link org.voltdb.client.Client2} object
+     */
+    public SQLLoader(Client2 client) {
+        this.m_client = null;
+        this.m_client2 = client;
     }
 
 
@@ -78,60 +104,63 @@ public class SQLLoader {
         System.out.println(commandString);
 
         // Loop through files. Operation depends on whether we're
-        // in 'batch mode' (in which case we collect all file content
-        // prior to any execution) or not (in which case we execute
+        // in 'batch mode' (in which case all files are executed together,
+        // once the last has been opened) or not (in which case we execute
         // statements from each file as we find it).
-        StringBuilder batchStmts = new StringBuilder();
-        for (int ii = 0; ii < filesInfo.size(); ii++) {
-            SQLParser.FileInfo fileInfo = filesInfo.get(ii);
-            LineReaderAdapter adapter = null;
-            SQLCommandLineReader reader = null;
-
-            try {
-                if (fileInfo.getOption() == SQLParser.FileOption.INLINEBATCH) {
-                    // File command is a "here document" so pass in the current
-                    // input stream.
-                    reader = parentLineReader;
-                } else {
-                    // Get a reader for this file
-                    FileInputStream fis = new FileInputStream(fileInfo.getFile());
-                    reader = adapter = new LineReaderAdapter(new InputStreamReader(fis, m_charset));
-
-                    // Batch mode: collect content of this file, and add to the batch
-                    if (fileInfo.getOption() == SQLParser.FileOption.BATCH) {
-                        String line;
-                        while ((line = reader.readBatchLine()) != null) {
-                            batchStmts.append(line).append('\n');
-                        }
-                        adapter.close();
-                        adapter = null;
-                        reader = null; // prevent immediate execution
-
-                        // If this is the last file, create a reader to read from the
-                        // collected batch of statements. 'fileInfo' is set for this
-                        // last file, if the batch has multiple files.
-                        if (ii == filesInfo.size() - 1) {
-                            reader = adapter = new LineReaderAdapter(new StringReader(batchStmts.toString()));
+        // Files are memory-mapped and decoded in chunks, so a file is never
+        // held in the heap as a whole, except as the text of a batch.
+        List<MappedFileReader> batchReaders = new ArrayList<>();
+        try {
+            for (int ii = 0; ii < filesInfo.size(); ii++) {
+                SQLParser.FileInfo fileInfo = filesInfo.get(ii);
+                MappedFileReader closeable = null;
+                SQLCommandLineReader reader = null;
+
+                try {
+                    if (fileInfo.getOption() == SQLParser.FileOption.INLINEBATCH) {
+                        // File command is a "here document" so pass in the current
+                        // input stream.
+                        reader = parentLineReader;
+                    } else {
+                        // Get a reader for this file
+                        MappedFileReader fileReader = new MappedFileReader(fileInfo.getFile(), m_charset);
+
+                        // Batch mode: add this file to the batch, to be read once all are open
+                        if (fileInfo.getOption() == SQLParser.FileOption.BATCH) {
+                            batchReaders.add(fileReader);
+
+                            // If this is the last file, read the files in turn as one
+                            // batch. 'fileInfo' is set for this last file, if the batch
+                            // has multiple files.
+                            if (ii == filesInfo.size() - 1) {
+                                reader = new ChainedLineReader(batchReaders);
+                            }
+                        } else {
+                            reader = fileReader;
+                            closeable = fileReader;
                         }
                     }
-                }
 
-                // Execute script
-                if (reader != null) {
-                    executeScriptFromReader(fileInfo, reader);
-                }
-            } catch (FileNotFoundException ex) {
-                System.err.printf("Script file '%s' could not be found.\n", fileInfo.getFile());
-                stopOrContinue(ex);
-                break; // abandon the file loop
-            } catch (Exception ex) {
-                stopOrContinue(ex);
-            } finally {
-                if (adapter != null) {
-                    adapter.close();
-                    adapter = null;
+                    // Execute script
+                    if (reader != null) {
+                        executeScriptFromReader(fileInfo, reader);
+                    }
+                } catch (FileNotFoundException ex) {
+                    System.err.printf("Script file '%s' could not be found.\n", fileInfo.getFile());
+                    stopOrContinue(ex);
+                    break; // abandon the file loop
+                } catch (Exception ex) {
+                    stopOrContinue(ex);
+                } finally {
+                    if (closeable != null) {
+                        closeable.close();
+                    }
                 }
             }
+        } finally {
+            for (MappedFileReader batchReader : batchReaders) {
+                batchReader.close();
+            }
         }
     }
 
@@ -154,16 +183,29 @@ public class SQLLoader {
             return; // nothing to see here
         }
 
-        StringBuilder statement = new StringBuilder();
-        boolean statementStarted = false;
+        // A batch is sent as one @AdHoc call, so its whole text is collected
+        // here, read straight into it line by line; the lexer then only
+        // tracks statement boundaries, for directives.
         StringBuilder batch = fileInfo.isBatch() ? new StringBuilder() : null;
+        DDLRun ddlRun = (batch == null && m_autoBatchDDL) ? new DDLRun(fileInfo.getFilePath()) : null;
+        // Lexes each line once as it is read, rather than re-splitting
+        // the statement so far whenever a line ends with a semicolon.
+        SQLStreamLexer lexer = new SQLStreamLexer(reader.getLineNumber() + 1, batch == null);
 
         String delimiter = (fileInfo.getOption() == SQLParser.FileOption.INLINEBATCH) ?
                 fileInfo.getDelimiter() : null;
 
         // Loop by lines
         while (true) {
-            String line = reader.readBatchLine();
+            CharSequence line;
+            int lineStart = 0;
+            if (batch == null) {
+                line = reader.readBatchLine();
+            } else {
+                // look at the line where it was appended to the batch, without its newline
+                lineStart = batch.length();
+                line = reader.readBatchLine(batch) ? CharBuffer.wrap(batch, lineStart, batch.length() - 1) : null;
+            }
 
             // Inline batch? (a here document)
             if (delimiter != null) {
@@ -176,7 +218,10 @@ public class SQLLoader {
                     throw new EOFException("ERROR: Failed to find delimiter \"" + delimiter +
                             "\" indicating end of inline batch. No batched statements were executed.");
                 }
-                if (delimiter.equals(line)) {
+                if (delimiter.contentEquals(line)) {
+                    if (batch != null) {
+                        batch.setLength(lineStart);
+                    }
                     line = null;
                 }
             }
@@ -184,14 +229,11 @@ public class SQLLoader {
             // No more lines? Execute whatever we got.
             if (line == null) {
                 if (batch == null) {
-                    String statementString = statement.toString();
-                    // Trim here avoids a "missing statement" error from adhoc in an edge case
-                    // like a blank line from stdin.
-                    if (!statementString.trim().isEmpty()) {
-                        executeStatements(statementString, reader.getLineNumber());
-                    }
+                    // The last statement does not need a semicolon.
+                    executeStatements(fileInfo.getFilePath(), lexer.finish(), ddlRun);
+                    flushDDLRun(ddlRun);
+                    drainPipeline();
                 } else {
-                    batch.append(statement);
                     if (batch.length() > 0) {
                         String batchName = fileInfo.getFilePath();
                         if (fileInfo.getFileSequence() > 1) {
@@ -205,16 +247,14 @@ public class SQLLoader {
 
             // Handle sqlcmd directives, but not in the middle of
             // collecting a SQL statement,
-            if (!statementStarted) {
-                if (line.trim().isEmpty() || SQLParser.isWholeLineComment(line)) {
+            if (!lexer.isInStatement()) {
+                if (isBlank(line) || SQLParser.isWholeLineComment(line)) {
                     // We don't strictly have to include a blank line or whole-line
                     // comment at the start of a statement, but when we want to preserve line
-                    // numbers (in a batch), we should at least append a newline.
+                    // numbers (in a batch), it stays in the batch, which it was read into.
                     // Whether to echo comments or blank lines from a batch is
                     // a grey area.
-                    if (batch != null) {
-                        statement.append(line).append("\n");
-                    }
+                    lexer.skipLine();
                     continue;
                 }
 
@@ -224,53 +264,38 @@ public class SQLLoader {
                     // Guards must be added for FILE Batch containing batches.
                     if (batch != null) {
                         stopOrContinue(new RuntimeException("A FILE command is invalid in a batch."));
+                        batch.setLength(lineStart);
+                        lexer.skipLine();
                         continue; // continue execution, just ignoring the FILE command
                     }
 
                     // Execute the file content or fail to do so.
+                    flushDDLRun(ddlRun);
+                    drainPipeline();
                     executeScriptFiles(nestedFilesInfo, reader);
+                    // an inline batch has read on from this reader
+                    lexer = new SQLStreamLexer(reader.getLineNumber() + 1, batch == null);
                     continue;
                 }
             }
 
             // Process normal @AdHoc commands which may be
             // multi-line-statement continuations.
-            statement.append(line).append("\n");
+            List<SQLStreamLexer.Statement> completed = lexer.feedLine(line);
+            if (batch == null) {
+                executeStatements(fileInfo.getFilePath(), completed, ddlRun);
+            }
+        }
+    }
 
-            // Check if the current statement ends here and now.
-            // if it is an incomplete multi statement procedure, it is returned back
-            if (SQLParser.isSemiColonTerminated(line)) {
-                String statementString = statement.toString();
-                if (batch == null) {
-                    String incompleteStmt = executeStatements(statementString, reader.getLineNumber());
-                    if (incompleteStmt != null) {
-                        statement = new StringBuilder(incompleteStmt);
-                        // TODO: should statementStarted be set true here?
-                    } else {
-                        statement.setLength(0);
-                        statementStarted = false;
-                    }
-                } else { // when in a batch:
-                    SplitStmtResults splitResults = SQLLexer.splitStatements(statementString);
-                    if (splitResults.getIncompleteStmt() == null) {
-                        // not in the middle of a statement.
-                        statementStarted = false;
-                        batch.append(statement);
-                        statement.setLength(0);
-                    } else {
-                        int incompleteStmtOffset = splitResults.getIncompleteStmtOffset();
-                        statementStarted = true;
-                        if (incompleteStmtOffset != 0) {
-                            batch.append(statementString, 0, incompleteStmtOffset);
-                            statement = new StringBuilder(statementString.substring(incompleteStmtOffset));
-                        }
-                    }
-                }
-            } else {
-                // Disable directive processing until end of statement.
-                statementStarted = true;
+    // As line.toString().trim().isEmpty(), without copying the line.
+    private static boolean isBlank(CharSequence line) {
+        for (int ii = 0; ii < line.length(); ii++) {
+            if (line.charAt(ii) > ' ') {
+                return false;
             }
         }
+        return true;
     }
 
     /**
@@ -296,7 +321,7 @@ public class SQLLoader {
                         + "Batching is only supported for DDL.");
             }
 
-            ClientResponse response = m_client.callProcedure("@AdHoc", statements);
+            ClientResponse response = callProcedure("@AdHoc", statements);
             if (response.getStatus() != ClientResponse.SUCCESS) {
                 throw new Exception("Execution Error: " + response.getStatusString());
             }
@@ -313,33 +338,145 @@ public class SQLLoader {
     }
 
     private static String patchErrorMessageWithFile(String batchFileName, String message) {
+        return patchErrorMessageWithFile(batchFileName, message, 0);
+    }
+
+    /**
+     * Rewrites the "[batch:line]" location in a batch error message to name
+     * the file, shifting the line number by 'lineOffset' for a batch that
+     * does not start at the top of the file.
+     */
+    private static String patchErrorMessageWithFile(String batchFileName, String message, int lineOffset) {
         Pattern errorMessageFilePrefix = Pattern.compile("\\[.*:([0-9]+)\\]");
         Matcher matcher = errorMessageFilePrefix.matcher(message);
         if (matcher.find()) {
-            // This won't work right if the filename contains a "$"...
-            message = matcher.replaceFirst("[" + batchFileName + ":$1]");
+            int lineNum = Integer.parseInt(matcher.group(1)) + lineOffset;
+            message = matcher.replaceFirst(Matcher.quoteReplacement("[" + batchFileName + ":" + lineNum + "]"));
         }
         return message;
     }
 
+    private void flushDDLRun(DDLRun ddlRun) {
+        if (ddlRun != null && !ddlRun.isEmpty()) {
+            drainPipeline();
+            executeAutoBatch(ddlRun.m_name, ddlRun.m_text.toString(), ddlRun.m_firstLineNum);
+            ddlRun.clear();
+        }
+    }
+
+    // Unit tests override this
+
     /**
-     * Executes a string of complete statements.
+     * Executes a run of consecutive DDL statements, collected in
+     * auto-batch mode, as a single @AdHoc call. The server applies
+     * the whole run as one catalog update, or none of it on error.
+     * <p>
+     * Line numbers in an error message are relative to the batch;
+     * they are mapped back to the script using 'firstLineNum', the
+     * script line the batch text starts at.
+     *
+     * @param batchName    the script name used in error messages
+     * @param statements   the DDL statements, each on the batch line matching its script line
+     * @param firstLineNum the script line number of the first line of 'statements'
+     */
+    protected void executeAutoBatch(String batchName, String statements, int firstLineNum) {
+        try {
+            System.out.println();
+            System.out.println(statements);
+
+            ClientResponse response = callProcedure("@AdHoc", statements);
+            if (response.getStatus() != ClientResponse.SUCCESS) {
+                throw new Exception("Execution Error: " + response.getStatusString());
+            }
+            System.out.println("Batch command succeeded.");
+        } catch (ProcCallException ex) {
+            String fixedMessage = patchErrorMessageWithFile(batchName, ex.getMessage(), firstLineNum - 1);
+            stopOrContinue(new RuntimeException(fixedMessage));
+        } catch (Exception ex) {
+            stopOrContinue(ex);
+        }
+    }
+
+    /**
+     * Executes complete statements.
      * Exception handling depends on m_stopOnError:
      * - If true (the default) a StopException is thrown
      * - Otherwise it's reported, and execution continues
-     * Any terminal incomplete statement is returned.
+     * <p>
+     * In auto-batch mode, DDL statements are only added to the
+     * current run of DDL. In pipelined mode, DML statements are only
+     * submitted; any other statement first waits for them to complete.
      */
-    private String executeStatements(String statements, int lineNum) {
-        SplitStmtResults parsedOutput = SQLLexer.splitStatements(statements);
-        List<String> parsedStatements = parsedOutput.getCompletelyParsedStmts();
-        for (String statement : parsedStatements) {
+    private void executeStatements(String fileName, List<SQLStreamLexer.Statement> statements, DDLRun ddlRun) {
+        for (SQLStreamLexer.Statement statement : statements) {
+            // a view of the lexer's buffer; its String is only built to send it
+            int lineNum = statement.getLineNumber();
+            if (statement.length() == 0) {
+                continue; // e.g. a lone semicolon
+            }
             try {
-                executeStatement(statement, lineNum);
+                if (ddlRun != null && SQLParser.queryIsDDL(statement)) {
+                    ddlRun.add(statement, lineNum);
+                    continue;
+                }
+                // anything else ends the run of DDL
+                flushDDLRun(ddlRun);
+                if (m_pipeline != null && DML_STATEMENT.matcher(statement).find()) {
+                    String text = statement.getText();
+                    m_pipeline.submit(fileName, lineNum, () -> executeStatementAsync(text, lineNum));
+                    continue;
+                }
+                drainPipeline();
+                executeStatement(statement.getText(), lineNum);
+            } catch (InterruptedException ex) {
+                Thread.currentThread().interrupt();
+                stopOrContinue(ex);
             } catch (Exception ex) {
                 stopOrContinue(ex);
             }
         }
-        return parsedOutput.getIncompleteStmt();
+    }
+
+    /**
+     * Waits for all pipelined statements to complete, and reports
+     * those that failed. This is the ordering barrier of pipelined mode.
+     */
+    private void drainPipeline() {
+        if (m_pipeline == null) {
+            return;
+        }
+        try {
+            for (String failure : m_pipeline.drain()) {
+                stopOrContinue(new RuntimeException(failure));
+            }
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+            stopOrContinue(ex);
+        }
+    }
+
+    // Unit tests override this
+
+    /**
+     * Sends a DML statement in pipelined mode without waiting for
+     * its response.
+     *
+     * @param statement a {@link java.lang.String} object
+     * @param lineNum   a int
+     * @return a future completed when the statement has executed,
+     * or exceptionally if it failed
+     * @throws java.lang.Exception if the statement could not be sent.
+     */
+    protected CompletableFuture<?> executeStatementAsync(String statement, int lineNum) throws Exception {
+        System.out.println();
+        System.out.println(statement + ";");
+
+        return callProcedureAsync("@AdHoc", statement).thenApply(response -> {
+            if (response.getStatus() != ClientResponse.SUCCESS) {
+                throw new CompletionException(new Exception("Execution Error: " + response.getStatusString()));
+            }
+            return response;
+        });
     }
 
     // Unit tests override this
@@ -359,7 +496,7 @@ public class SQLLoader {
         // DDL statements get forwarded to @AdHoc,
         // but get special post-processing to reload stored procedures
         if (SQLParser.queryIsDDL(statement)) {
-            printDdlResponse(m_client.callProcedure("@AdHoc", statement));
+            printDdlResponse(callProcedure("@AdHoc", statement));
             return;
         }
 
@@ -469,10 +606,37 @@ public class SQLLoader {
         }
     }
 
+    private ClientResponse callProcedure(String procName, Object... parameters)
+            throws IOException, ProcCallException {
+        if (m_client2 != null) {
+            return m_client2.callProcedureSync(procName, parameters);
+        }
+        return m_client.callProcedure(procName, parameters);
+    }
+
+    private CompletableFuture<ClientResponse> callProcedureAsync(String procName, Object... parameters)
+            throws IOException {
+        if (m_client2 != null) {
+            return m_client2.callProcedureAsync(procName, parameters);
+        }
+        CompletableFuture<ClientResponse> future = new CompletableFuture<>();
+        if (!m_client.callProcedure(future::complete, procName, parameters)) {
+            throw new IOException("Unable to queue " + procName + " for execution");
+        }
+        return future;
+    }
+
     private ClientResponse callProcedureHelper(String procName, Object... parameters)
             throws IOException, ProcCallException {
         ClientResponse response;
-        if (m_hasBatchTimeout) {
+        if (m_client2 != null) {
+            if (m_hasBatchTimeout) {
+                Client2CallOptions options = new Client2CallOptions().queryTimeout(m_batchTimeout, TimeUnit.MILLISECONDS);
+                response = m_client2.callProcedureSync(options, procName, parameters);
+            } else {
+                response = m_client2.callProcedureSync(procName, parameters);
+            }
+        } else if (m_hasBatchTimeout) {
             response = m_client.callProcedureWithTimeout(m_batchTimeout, procName, parameters);
         } else {
             response = m_client.callProcedure(procName, parameters);
@@ -499,6 +663,8 @@ public class SQLLoader {
                         + "              [--query=query-string]\n"
                         + "              [--file=filename]\n"
                         + "              [--batch]\n"
+                        + "              [--auto-batch]\n"
+                        + "              [--pipeline[=window]]\n"
                         + "              [--output-format=(fixed|csv|tab)]\n"
                         + "              [--output-file=filename]\n"
                         + "              [--output-skip-metadata]\n"
@@ -554,6 +720,18 @@ public class SQLLoader {
                         + "  In conjunction with the --file option, executes the file in batch mode.\n"
                         + "  Default: (executes the file in statement-by-statement mode).\n"
                         + "\n"
+                        + "[--auto-batch]\n"
+                        + "  In statement-by-statement mode, executes each run of consecutive DDL\n"
+                        + "  statements as one batch. Other statements end a run and execute alone.\n"
+                        + "  Default: (each DDL statement is a separate catalog update).\n"
+                        + "\n"
+                        + "[--pipeline[=window]]\n"
+                        + "  Sends consecutive DML statements without waiting for each response,\n"
+                        + "  keeping up to 'window' of them in flight (default " + DEFAULT_PIPELINE_WINDOW + "). Other\n"
+                        + "  statements and 'file' directives wait for them to complete first.\n"
+                        + "  Errors are reported with their line numbers at that point.\n"
+                        + "  Default: (each statement waits for the previous one).\n"
+                        + "\n"
                         + "[--output-format=(fixed|csv|tab)]\n"
                         + "  Format of returned resultset data (fixed-width, CSV or tab-delimited).\n"
                         + "  Default: fixed.\n"
@@ -615,6 +793,8 @@ public class SQLLoader {
         // Parameters from command line
         String inputFilePath = "";
         boolean inputBatch = false;
+        boolean autoBatch = false;
+        int pipelineWindow = 0;
 
         // Parse out parameters.
         for (String arg : args) {
@@ -641,6 +821,12 @@ public class SQLLoader {
                         case "batch":
                             inputBatch = true;
                             break;
+                        case "auto-batch":
+                            autoBatch = true;
+                            break;
+                        case "pipeline":
+                            pipelineWindow = DEFAULT_PIPELINE_WINDOW;
+                            break;
                         default: // may be a valid key requring a value, or entirely unknown
                             recognized = false;
                             break;
@@ -657,6 +843,12 @@ public class SQLLoader {
                         case "file":
                             inputFilePath = val;
                             break;
+                        case "pipeline":
+                            pipelineWindow = Integer.parseInt(val);
+                            if (pipelineWindow < 1) {
+                                throw new NumberFormatException();
+                            }
+                            break;
                         default:
                             recognized = false;
                             break;
@@ -667,6 +859,9 @@ public class SQLLoader {
             }
         }
 
+        m_autoBatchDDL = autoBatch;
+        m_pipeline = (pipelineWindow > 0) ? new StatementPipeline(pipelineWindow) : null;
+
         // Check for option conflicts
         int nAuth = 0;
         try {
@@ -681,4 +876,51 @@ public class SQLLoader {
         }
         return 0;
     }
+
+    /**
+     * A run of consecutive DDL statements collected in auto-batch mode.
+     * Each statement is placed on the batch line matching its script
+     * line, so that batch line numbers map back to the script.
+     */
+    private static final class DDLRun {
+        private final String m_name;
+        private final StringBuilder m_text = new StringBuilder();
+        private int m_firstLineNum = 0;
+        // The script line the end of m_text corresponds to.
+        private int m_lineNum = 0;
+
+        DDLRun(String name) {
+            m_name = name;
+        }
+
+        /**
+         * Appends a statement starting at script line 'lineNum'.
+         */
+        void add(CharSequence statement, int lineNum) {
+            if (m_text.length() == 0) {
+                m_firstLineNum = lineNum;
+                m_lineNum = lineNum;
+            } else if (m_lineNum < lineNum) {
+                for (; m_lineNum < lineNum; m_lineNum++) {
+                    m_text.append('\n');
+                }
+            } else {
+                m_text.append(' ');
+            }
+            m_text.append(statement).append(';');
+            for (int ii = 0; ii < statement.length(); ii++) {
+                if (statement.charAt(ii) == '\n') {
+                    m_lineNum++;
+                }
+            }
+        }
+
+        boolean isEmpty() {
+            return m_text.length() == 0;
+        }
+
+        void clear() {
+            m_text.setLength(0);
+        }
+    }
 }
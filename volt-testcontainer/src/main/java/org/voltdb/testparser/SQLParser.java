@@ -1908,7 +1908,7 @@ public class SQLParser extends SQLPatternFactory
      * @param statement  statement to parse
      * @return           File object or NULL if statement wasn't recognized
      */
-    public static List<FileInfo> parseFileStatement(FileInfo parentContext, String statement)
+    public static List<FileInfo> parseFileStatement(FileInfo parentContext, CharSequence statement)
     {
         Matcher fileMatcher = FileToken.matcher(statement);
 
@@ -1919,7 +1919,7 @@ public class SQLParser extends SQLPatternFactory
             return null;
         }
 
-        String remainder = statement.substring(fileMatcher.end(), statement.length());
+        String remainder = statement.subSequence(fileMatcher.end(), statement.length()).toString();
 
         List<FileInfo> filesInfo = new ArrayList<>();
 
@@ -2474,7 +2474,7 @@ public class SQLParser extends SQLPatternFactory
      * @param query  query to check
      * @return       true if query is DDL
      */
-    public static boolean queryIsDDL(String query)
+    public static boolean queryIsDDL(CharSequence query)
     {
         return SQLLexer.extractDDLToken(query) != null;
     }
@@ -2518,7 +2518,7 @@ public class SQLParser extends SQLPatternFactory
      * @param line
      * @return true if the input contains only a SQL line comment with optional indent.
      */
-    public static boolean isWholeLineComment(String line) {
+    public static boolean isWholeLineComment(CharSequence line) {
         return OneWholeLineComment.matcher(line).matches();
     }
 
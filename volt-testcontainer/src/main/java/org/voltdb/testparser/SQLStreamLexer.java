@@ -0,0 +1,572 @@
+/*
+ * Copyright (C) 2025-2026 Volt Active Data Inc.
+ *
+ * Use of this source code is governed by an MIT
+ * license that can be found in the LICENSE file or at
+ * https://opensource.org/licenses/MIT.
+ */
+package org.voltdb.testparser;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Splits SQL statements on semicolons as text arrives, following the
+ * same rules as {@link SQLLexer#splitStatements(String)}.
+ * <p>
+ * splitStatements has to be given the whole text of a statement, so a
+ * caller reading line by line must re-split its growing buffer at every
+ * line that might end a statement; for the body of a multi-statement
+ * CREATE PROCEDURE ... AS BEGIN ... END that is quadratic in its length.
+ * This lexer instead keeps the quote, comment, BEGIN and CASE state
+ * between calls of {@link #feed(CharSequence)}, looks at every character
+ * once, and returns each statement as soon as its terminating semicolon
+ * has been read.
+ * <p>
+ * Characters whose meaning depends on what follows, such as a letter
+ * that may start BEGIN, or a '-' that may start a comment, are held
+ * back until enough of the following text has been fed, or until
+ * {@link #finish()}. Text fed a line at a time, newline included, is
+ * always lexed completely.
+ * <p>
+ * The text of the current statement stays in the input buffer, with
+ * the comments inside it recorded as offsets. A completed {@link Statement}
+ * is a view of that text, which is only copied into a String when the
+ * caller asks for one, and is valid until the lexer is next fed.
+ * A lexer created without keeping text only tracks where statements
+ * begin and end, for a caller that collects the text itself.
+ */
+public class SQLStreamLexer {
+    // Longest look-ahead needed to match a token: "begin" and the character after it.
+    private static final int MAX_LOOKAHEAD = 6;
+    // Per comment in the current statement: start offset, end offset, replacement character or 0.
+    private static final int COMMENT_FIELDS = 3;
+
+    // Text fed but not yet lexed is m_buf[m_pos..m_end).
+    private char[] m_buf = new char[1024];
+    private int m_pos = 0;
+    private int m_end = 0;
+    // The current statement starts at m_buf[m_stmtStart]; kept in m_buf while in a statement.
+    private int m_stmtStart = 0;
+    // False to only track statement boundaries, without retaining or returning any text.
+    private final boolean m_keepText;
+    // Counts the times text was moved within m_buf, which ends the views of completed statements.
+    private int m_compactions = 0;
+    // The character before m_buf[0], or 0 at the start of the input.
+    private char m_prev = 0;
+
+    // Set to 0 outside of quoted segments or the quote character inside them.
+    private char m_quote = 0;
+    // Set to null outside of comments or to the string that ends the comment.
+    private String m_commentEnd = null;
+    private boolean m_statementIsComment = false;
+    private boolean m_inStatement = false;
+    // To indicate if inside multi statement procedure
+    private boolean m_inBegin = false;
+    // Set to true when we've processed an AS, as in
+    // CREATE PROCEDURE <proc> AS BEGIN ... END
+    private boolean m_checkForNextBegin = false;
+    // To indicate if inside CASE .. WHEN .. END
+    private int m_inCase = 0;
+
+    // Offset of the comment being lexed.
+    private int m_commentStart = 0;
+    // The comments of the current statement, which are left out of its text.
+    private int[] m_comments = new int[COMMENT_FIELDS * 8];
+    private int m_commentCount = 0;
+    // Whether splitStatements would have anything in its statement buffer.
+    private boolean m_hasText = false;
+    private int m_lineNum;
+    private int m_statementLineNum;
+    private List<Statement> m_completed = new ArrayList<>();
+    private String m_incompleteStmt = null;
+
+    /**
+     * A statement split from the input, trimmed, with comments removed and
+     * without its semicolon.
+     * <p>
+     * The characters are read from the lexer's input buffer, so they can
+     * only be read until the lexer is next fed; {@link #getText()} copies
+     * them into a String that stays valid.
+     */
+    public static final class Statement implements CharSequence {
+        private final SQLStreamLexer m_lexer;
+        private final int m_compactions;
+        private final char[] m_buf;
+        // Pairs of start and end offsets in m_buf; a negative start is the single character -start.
+        private final int[] m_runs;
+        // The part of the runs left after trimming.
+        private final int m_offset;
+        private final int m_length;
+        private final int m_lineNum;
+        private String m_text;
+
+        Statement(SQLStreamLexer lexer, int[] runs, int lineNum) {
+            m_lexer = lexer;
+            m_compactions = lexer.m_compactions;
+            m_buf = lexer.m_buf;
+            m_runs = runs;
+            m_lineNum = lineNum;
+            // trim as String.trim() does
+            int start = 0;
+            int end = 0;
+            for (int ii = 0; ii < runs.length; ii += 2) {
+                end += runLength(ii);
+            }
+            while (start < end && rawCharAt(start) <= ' ') {
+                start++;
+            }
+            while (end > start && rawCharAt(end - 1) <= ' ') {
+                end--;
+            }
+            m_offset = start;
+            m_length = end - start;
+        }
+
+        /**
+         * @return the statement as a String, copied from the input the first time
+         * @throws IllegalStateException if the lexer has been fed since the
+         *                               statement completed, and the text was not copied before
+         */
+        public String getText() {
+            if (m_text == null) {
+                checkValid();
+                if (m_runs.length == 2) {
+                    m_text = new String(m_buf, m_runs[0] + m_offset, m_length);
+                } else {
+                    StringBuilder text = new StringBuilder(m_length);
+                    for (int ii = 0; ii < m_length; ii++) {
+                        text.append(rawCharAt(m_offset + ii));
+                    }
+                    m_text = text.toString();
+                }
+            }
+            return m_text;
+        }
+
+        /**
+         * @return the line number the statement starts on
+         */
+        public int getLineNumber() {
+            return m_lineNum;
+        }
+
+        @Override
+        public int length() {
+            return m_length;
+        }
+
+        @Override
+        public char charAt(int index) {
+            if (index < 0 || index >= m_length) {
+                throw new IndexOutOfBoundsException("index " + index + ", length " + m_length);
+            }
+            if (m_text != null) {
+                return m_text.charAt(index);
+            }
+            checkValid();
+            return rawCharAt(m_offset + index);
+        }
+
+        @Override
+        public CharSequence subSequence(int start, int end) {
+            return getText().substring(start, end);
+        }
+
+        @Override
+        public String toString() {
+            return getText();
+        }
+
+        private int runLength(int run) {
+            return m_runs[run] < 0 ? 1 : m_runs[run + 1] - m_runs[run];
+        }
+
+        private char rawCharAt(int offset) {
+            for (int ii = 0; ; ii += 2) {
+                int length = runLength(ii);
+                if (offset < length) {
+                    return m_runs[ii] < 0 ? (char) -m_runs[ii] : m_buf[m_runs[ii] + offset];
+                }
+                offset -= length;
+            }
+        }
+
+        private void checkValid() {
+            if (m_lexer.m_compactions != m_compactions) {
+                throw new IllegalStateException("The lexer was fed after the statement on line " + m_lineNum
+                                                + " completed; call getText() before feeding it again");
+            }
+        }
+    }
+
+    /**
+     * Creates a lexer whose input starts on line 1.
+     */
+    public SQLStreamLexer() {
+        this(1);
+    }
+
+    /**
+     * @param firstLineNum the line number of the first line of input
+     */
+    public SQLStreamLexer(int firstLineNum) {
+        this(firstLineNum, true);
+    }
+
+    /**
+     * @param firstLineNum the line number of the first line of input
+     * @param keepText     false to only track whether the input is inside a
+     *                     statement; no statements are then returned
+     */
+    public SQLStreamLexer(int firstLineNum, boolean keepText) {
+        m_lineNum = firstLineNum;
+        m_statementLineNum = firstLineNum;
+        m_keepText = keepText;
+    }
+
+    /**
+     * Lexes more input.
+     *
+     * @param text the next part of the input, of any length
+     * @return the statements completed by this text, in input order
+     */
+    public List<Statement> feed(CharSequence text) {
+        append(text, false);
+        lex(false);
+        return takeCompleted();
+    }
+
+    /**
+     * Lexes a line of input and the newline that ended it, which the
+     * caller does not have to append to the line first.
+     *
+     * @param line the next line of the input, without its line terminator
+     * @return the statements completed by this line, in input order
+     */
+    public List<Statement> feedLine(CharSequence line) {
+        append(line, true);
+        lex(false);
+        return takeCompleted();
+    }
+
+    private void append(CharSequence text, boolean newline) {
+        // keep the current statement, which is materialized from m_buf when it completes
+        int keep = m_inStatement && m_keepText ? m_stmtStart : m_pos;
+        int retained = m_end - keep;
+        if (keep > 0) {
+            m_compactions++;
+            m_prev = m_buf[keep - 1];
+            System.arraycopy(m_buf, keep, m_buf, 0, retained);
+            m_pos -= keep;
+            m_end = retained;
+            m_stmtStart -= keep;
+            m_commentStart -= keep;
+            for (int ii = 0; ii < m_commentCount * COMMENT_FIELDS; ii += COMMENT_FIELDS) {
+                m_comments[ii] -= keep;
+                m_comments[ii + 1] -= keep;
+            }
+        }
+        int length = text.length() + (newline ? 1 : 0);
+        if (retained + length > m_buf.length) {
+            char[] grown = new char[Math.max(retained + length, m_buf.length * 2)];
+            System.arraycopy(m_buf, 0, grown, 0, retained);
+            m_buf = grown;
+        }
+        for (int ii = 0; ii < text.length(); ii++) {
+            m_buf[m_end++] = text.charAt(ii);
+        }
+        if (newline) {
+            m_buf[m_end++] = '\n';
+        }
+    }
+
+    /**
+     * Counts a line that the caller consumed without lexing it, such as a
+     * sqlcmd directive, so that later line numbers stay right. Only valid
+     * outside a statement.
+     */
+    public void skipLine() {
+        m_lineNum++;
+    }
+
+    /**
+     * Ends the input. As with splitStatements, a final statement without a
+     * semicolon is complete, unless it is an unfinished AS BEGIN ... END
+     * procedure, which is then available from {@link #getIncompleteStatement()}.
+     *
+     * @return the statements completed by the end of the input
+     */
+    public List<Statement> finish() {
+        lex(true);
+        if (m_keepText && m_inStatement && !m_statementIsComment) {
+            if (!m_inBegin) {
+                if (m_commentEnd != null) {
+                    // an unterminated comment runs to the end of the input
+                    addComment(m_commentStart, m_end, (char) 0);
+                }
+                Statement statement = statement(m_end);
+                if (statement.length() > 0) {
+                    m_completed.add(statement);
+                }
+            } else {
+                m_incompleteStmt = new String(m_buf, m_stmtStart, m_end - m_stmtStart);
+            }
+        }
+        return takeCompleted();
+    }
+
+    /**
+     * @return the raw text of a multi-statement procedure left open at
+     * {@link #finish()}, or null
+     */
+    public String getIncompleteStatement() {
+        return m_incompleteStmt;
+    }
+
+    /**
+     * @return true if a statement has been started but not yet terminated,
+     * or if fed text is waiting for more input to be lexed
+     */
+    public boolean isInStatement() {
+        return m_inStatement || m_pos < m_end;
+    }
+
+    private List<Statement> takeCompleted() {
+        List<Statement> completed = m_completed;
+        m_completed = new ArrayList<>();
+        return completed;
+    }
+
+    /**
+     * The loop of splitStatements, one step per iteration. Unless at the
+     * end of the input, it stops at a character that cannot be decided
+     * without more of the following text.
+     */
+    private void lex(boolean atEnd) {
+        while (m_pos < m_end) {
+            if (!atEnd && needsMoreInput()) {
+                return;
+            }
+            char c = m_buf[m_pos];
+            if (!m_inStatement) {
+                // Eat up whitespace outside of a statement
+                if (Character.isWhitespace(c)) {
+                    consume(1, false);
+                } else {
+                    m_inStatement = true;
+                    m_statementLineNum = m_lineNum;
+                    m_stmtStart = m_pos;
+                    m_commentCount = 0;
+                }
+            } else if (m_commentEnd != null) {
+                // Processing the interior of a comment.
+                if (matchesAt(m_pos, m_commentEnd)) {
+                    // Move past the comment end.
+                    consume(m_commentEnd.length(), false);
+                    // If the comment is the whole of the statement so far, do not add to output
+                    if (m_statementIsComment) {
+                        m_statementIsComment = false;
+                        m_inStatement = false;
+                    } else {
+                        // Put a single space for C-style comments, or a newline for -- comments
+                        addComment(m_commentStart, m_pos, m_commentEnd.charAt(0) == '\n' ? '\n' : ' ');
+                    }
+                    m_hasText = true;
+                    m_commentEnd = null;
+                } else {
+                    consume(1, false);
+                }
+            } else if (m_quote != 0) {
+                // Processing the interior of a quoted string.
+                if (c == '\\') {
+                    // Keep the '\' escape and the single escaped character.
+                    consume(Math.min(2, m_end - m_pos), true);
+                } else if (c == m_quote) {
+                    // Look at the next character to distinguish a double escaped quote
+                    // from the end of the quoted string.
+                    consume(1, true);
+                    if (m_pos < m_end) {
+                        if (m_buf[m_pos] != m_quote) {
+                            m_quote = 0;
+                        } else {
+                            consume(1, true);
+                        }
+                    }
+                } else {
+                    consume(1, true);
+                }
+            } else {
+                // Outside of a quoted string or comment - watch for the next separator, quote or comment.
+                if (m_checkForNextBegin && matchesTokenAt(m_pos, "begin")) {
+                    // 'BEGIN' only starts a procedure body after 'AS',
+                    // otherwise it is a column or table name
+                    m_inBegin = true;
+                    consume(5, true);
+                } else if (matchesTokenAt(m_pos, "case")) {
+                    m_checkForNextBegin = false;
+                    m_inCase++;
+                    consume(4, true);
+                } else if (matchesTokenAt(m_pos, "as")) {
+                    m_checkForNextBegin = true;
+                    consume(2, true);
+                } else if (!m_inBegin && c == ';') {
+                    // Add terminated statement if not in a AS BEGIN ... END
+                    if (m_hasText && m_keepText) {
+                        m_completed.add(statement(m_pos));
+                    }
+                    m_hasText = false;
+                    consume(1, false);
+                    m_inStatement = false;
+                    m_inBegin = false;
+                    m_inCase = 0;
+                    m_checkForNextBegin = false;
+                } else if (c == '"' || c == '\'') {
+                    m_checkForNextBegin = false;
+                    m_quote = c;
+                    consume(1, true);
+                } else if (matchesTokenAt(m_pos, "end")) {
+                    m_checkForNextBegin = false;
+                    if (m_inCase > 0) {
+                        m_inCase--;
+                    } else {
+                        // AS BEGIN ... END ends once all CASE ... END are complete
+                        m_inBegin = false;
+                    }
+                    consume(3, true);
+                } else if (matchesAt(m_pos, "/*")) {
+                    m_commentEnd = "*/";
+                    m_commentStart = m_pos;
+                    m_statementIsComment = m_pos == m_stmtStart;
+                    consume(2, false);
+                } else if (matchesAt(m_pos, "--")) {
+                    m_commentEnd = "\n";
+                    m_commentStart = m_pos;
+                    m_statementIsComment = m_pos == m_stmtStart;
+                    consume(2, false);
+                } else {
+                    if (!Character.isWhitespace(c)) {
+                        m_checkForNextBegin = false;
+                    }
+                    consume(1, true);
+                }
+            }
+        }
+    }
+
+    /**
+     * Whether the character at m_pos can only be lexed once more text is known.
+     */
+    private boolean needsMoreInput() {
+        char c = m_buf[m_pos];
+        boolean hasNext = m_pos + 1 < m_end;
+        if (!m_inStatement) {
+            return false;
+        }
+        if (m_commentEnd != null) {
+            return c == '*' && !hasNext;
+        }
+        if (m_quote != 0) {
+            return (c == '\\' || c == m_quote) && !hasNext;
+        }
+        if (isLetter(c)) {
+            // a token can only be matched once the identifier it starts has ended
+            int next = m_pos;
+            while (next < m_end && next - m_pos < MAX_LOOKAHEAD && isIdentifierPart(m_buf[next])) {
+                next++;
+            }
+            return next == m_end && next - m_pos < MAX_LOOKAHEAD;
+        }
+        return (c == '/' || c == '-') && !hasNext;
+    }
+
+    private void consume(int count, boolean keep) {
+        for (int ii = 0; ii < count; ii++) {
+            if (m_buf[m_pos++] == '\n') {
+                m_lineNum++;
+            }
+        }
+        m_hasText |= keep;
+    }
+
+    private void addComment(int start, int end, char replacement) {
+        if (!m_keepText) {
+            return;
+        }
+        if ((m_commentCount + 1) * COMMENT_FIELDS > m_comments.length) {
+            int[] grown = new int[m_comments.length * 2];
+            System.arraycopy(m_comments, 0, grown, 0, m_comments.length);
+            m_comments = grown;
+        }
+        int base = m_commentCount++ * COMMENT_FIELDS;
+        m_comments[base] = start;
+        m_comments[base + 1] = end;
+        m_comments[base + 2] = replacement;
+    }
+
+    /**
+     * A view of the current statement up to 'end', with each comment
+     * replaced as splitStatements does.
+     */
+    private Statement statement(int end) {
+        int[] runs = new int[2 + m_commentCount * 4];
+        int run = 0;
+        int start = m_stmtStart;
+        for (int ii = 0; ii < m_commentCount * COMMENT_FIELDS; ii += COMMENT_FIELDS) {
+            runs[run++] = start;
+            runs[run++] = m_comments[ii];
+            if (m_comments[ii + 2] != 0) {
+                runs[run++] = -m_comments[ii + 2];
+                runs[run++] = 0;
+            }
+            start = m_comments[ii + 1];
+        }
+        runs[run++] = start;
+        runs[run++] = end;
+        return new Statement(this, run == runs.length ? runs : Arrays.copyOf(runs, run), m_statementLineNum);
+    }
+
+    private char charBefore(int position) {
+        return position > 0 ? m_buf[position - 1] : m_prev;
+    }
+
+    private boolean matchesAt(int position, String str) {
+        int length = str.length();
+        if (position + length > m_end) {
+            return false;
+        }
+        for (int ii = 0; ii < length; ii++) {
+            if (m_buf[position + ii] != str.charAt(ii)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    // The token must be in lower case ASCII letters.
+    private boolean matchesTokenAt(int position, String token) {
+        int length = token.length();
+        if (isIdentifierPart(charBefore(position)) || position + length > m_end) {
+            return false;
+        }
+        if (position + length < m_end && isIdentifierPart(m_buf[position + length])) {
+            return false;
+        }
+        for (int ii = 0; ii < length; ii++) {
+            char c = m_buf[position + ii];
+            if (!isLetter(c) || (char) (c | 0x20) != token.charAt(ii)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static boolean isLetter(char c) {
+        return (c >= 'A' && c <= 'Z') || (c >= 'a' && c <= 'z');
+    }
+
+    private static boolean isIdentifierPart(char c) {
+        return isLetter(c) || (c >= '0' && c <= '9') || c == '_';
+    }
+}
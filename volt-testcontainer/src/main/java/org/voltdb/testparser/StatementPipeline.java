@@ -0,0 +1,131 @@
+/*
+ * Copyright (C) 2025-2026 Volt Active Data Inc.
+ *
+ * Use of this source code is governed by an MIT
+ * license that can be found in the LICENSE file or at
+ * https://opensource.org/licenses/MIT.
+ */
+package org.voltdb.testparser;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.Semaphore;
+
+/**
+ * Keeps a bounded number of asynchronous statements in flight for
+ * sqlcmd's pipelined mode, and collects their errors.
+ * <p>
+ * Statements submitted between two calls of drain() may complete
+ * in any order; drain() is the ordering barrier the caller places
+ * before DDL, queries and 'file' directives.
+ */
+class StatementPipeline {
+    private final int m_window;
+    private final Semaphore m_inFlight;
+    private final ConcurrentLinkedQueue<Failure> m_failures = new ConcurrentLinkedQueue<>();
+    private boolean m_pending = false;
+
+    /**
+     * @param window the maximum number of statements outstanding at any time
+     */
+    StatementPipeline(int window) {
+        if (window < 1) {
+            throw new IllegalArgumentException("The pipeline window must be at least 1, was " + window);
+        }
+        m_window = window;
+        m_inFlight = new Semaphore(window);
+    }
+
+    /**
+     * Submits one statement, first waiting for a free slot in the window.
+     * A failure of the call, whether thrown or completing the future, is
+     * collected for the next drain().
+     *
+     * @param fileName the script name used in error messages
+     * @param lineNum  the script line number of the statement
+     * @param call     issues the call and returns its future
+     * @throws InterruptedException if interrupted waiting for a free slot
+     */
+    void submit(String fileName, int lineNum, AsyncCall call) throws InterruptedException {
+        m_inFlight.acquire();
+        m_pending = true;
+        CompletableFuture<?> future;
+        try {
+            future = call.start();
+        } catch (Exception ex) {
+            m_failures.add(new Failure(fileName, lineNum, ex));
+            m_inFlight.release();
+            return;
+        }
+        future.whenComplete((result, error) -> {
+            if (error != null) {
+                m_failures.add(new Failure(fileName, lineNum, unwrap(error)));
+            }
+            m_inFlight.release();
+        });
+    }
+
+    /**
+     * Waits for every submitted statement to complete.
+     *
+     * @return error messages of the failed statements, in script order,
+     * each prefixed with the statement's "[file:line]"
+     * @throws InterruptedException if interrupted while waiting
+     */
+    List<String> drain() throws InterruptedException {
+        if (!m_pending) {
+            return List.of();
+        }
+        m_inFlight.acquire(m_window);
+        m_inFlight.release(m_window);
+        m_pending = false;
+
+        List<Failure> failures = new ArrayList<>(m_failures);
+        m_failures.clear();
+        failures.sort(Comparator.comparingInt(failure -> failure.m_lineNum));
+        List<String> messages = new ArrayList<>();
+        for (Failure failure : failures) {
+            messages.add(failure.toString());
+        }
+        return messages;
+    }
+
+    private static Throwable unwrap(Throwable error) {
+        while (error instanceof CompletionException && error.getCause() != null) {
+            error = error.getCause();
+        }
+        return error;
+    }
+
+    /**
+     * Starts one asynchronous call.
+     */
+    interface AsyncCall {
+        CompletableFuture<?> start() throws Exception;
+    }
+
+    private static final class Failure {
+        private final String m_fileName;
+        private final int m_lineNum;
+        private final Throwable m_error;
+
+        Failure(String fileName, int lineNum, Throwable error) {
+            m_fileName = fileName;
+            m_lineNum = lineNum;
+            m_error = error;
+        }
+
+        @Override
+        public String toString() {
+            String msg = m_error.getMessage();
+            if (msg == null || msg.isEmpty()) {
+                msg = m_error.getClass().getName();
+            }
+            return "[" + m_fileName + ":" + m_lineNum + "] " + msg;
+        }
+    }
+}
@@ -0,0 +1,97 @@
+/*
+ * Copyright (C) 2025-2026 Volt Active Data Inc.
+ *
+ * Use of this source code is governed by an MIT
+ * license that can be found in the LICENSE file or at
+ * https://opensource.org/licenses/MIT.
+ */
+package org.voltdbtest.testcontainer;
+
+import java.time.Duration;
+import java.util.List;
+
+/**
+ * Outcome of a {@link VoltDBCluster#bulkLoad} call.
+ */
+public final class BulkLoadReport {
+
+    private final String table;
+    private final long rowsSubmitted;
+    private final long rowsFailed;
+    private final Duration elapsed;
+    private final List<String> failures;
+
+    BulkLoadReport(String table, long rowsSubmitted, long rowsFailed, Duration elapsed, List<String> failures) {
+        this.table = table;
+        this.rowsSubmitted = rowsSubmitted;
+        this.rowsFailed = rowsFailed;
+        this.elapsed = elapsed;
+        this.failures = List.copyOf(failures);
+    }
+
+    /**
+     * @return the name of the table that was loaded
+     */
+    public String getTable() {
+        return table;
+    }
+
+    /**
+     * @return the number of rows handed to the loader
+     */
+    public long getRowsSubmitted() {
+        return rowsSubmitted;
+    }
+
+    /**
+     * @return the number of rows the server accepted
+     */
+    public long getRowsLoaded() {
+        return rowsSubmitted - rowsFailed;
+    }
+
+    /**
+     * @return the number of rows the server rejected
+     */
+    public long getRowsFailed() {
+        return rowsFailed;
+    }
+
+    /**
+     * @return wall-clock time from the first row submitted until every row was acknowledged
+     */
+    public Duration getElapsed() {
+        return elapsed;
+    }
+
+    /**
+     * @return the rate at which rows were loaded
+     */
+    public double getRowsPerSecond() {
+        long millis = Math.max(1, elapsed.toMillis());
+        return getRowsLoaded() * 1000.0 / millis;
+    }
+
+    /**
+     * Returns descriptions of the first rejected rows, each with the server's status message.
+     * Only a bounded number of failures is kept; see {@link #getRowsFailed()} for the total.
+     *
+     * @return descriptions of rejected rows
+     */
+    public List<String> getFailures() {
+        return failures;
+    }
+
+    /**
+     * @return true if every submitted row was loaded
+     */
+    public boolean isSuccess() {
+        return rowsFailed == 0;
+    }
+
+    @Override
+    public String toString() {
+        return String.format("Loaded %d of %d rows into %s in %d ms (%.0f rows/s), %d failed",
+                getRowsLoaded(), rowsSubmitted, table, elapsed.toMillis(), getRowsPerSecond(), rowsFailed);
+    }
+}
@@ -0,0 +1,108 @@
+/*
+ * Copyright (C) 2025-2026 Volt Active Data Inc.
+ *
+ * Use of this source code is governed by an MIT
+ * license that can be found in the LICENSE file or at
+ * https://opensource.org/licenses/MIT.
+ */
+package org.voltdbtest.testcontainer;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.TreeSet;
+
+/**
+ * Parsing and formatting of docker cpuset lists such as {@code 0-3,6,8-9}.
+ */
+final class CpuSet {
+
+    // CPU numbers must be below this, which also bounds the size of a parsed range.
+    static final int MAX_CPUS = 4096;
+
+    private CpuSet() {
+    }
+
+    /**
+     * Parses a cpuset list into the CPU numbers it names.
+     *
+     * @param cpuset a comma separated list of CPU numbers and inclusive ranges
+     * @return the distinct CPU numbers in ascending order
+     * @throws IllegalArgumentException if the list is empty or malformed, or names a CPU number
+     *                                  of {@value #MAX_CPUS} or more
+     */
+    static List<Integer> parse(String cpuset) {
+        if (cpuset == null || cpuset.isBlank()) {
+            throw new IllegalArgumentException("cpuset must not be empty");
+        }
+        TreeSet<Integer> cpus = new TreeSet<>();
+        for (String part : cpuset.split(",")) {
+            String item = part.trim();
+            if (!item.matches("\\d+(-\\d+)?")) {
+                throw new IllegalArgumentException("Invalid cpuset: " + cpuset);
+            }
+            int dash = item.indexOf('-');
+            int from = Integer.parseInt(dash < 0 ? item : item.substring(0, dash));
+            int to = dash < 0 ? from : Integer.parseInt(item.substring(dash + 1));
+            if (to < from) {
+                throw new IllegalArgumentException("Invalid cpuset: " + cpuset);
+            }
+            if (to >= MAX_CPUS) {
+                throw new IllegalArgumentException("CPU numbers must be below " + MAX_CPUS + ": " + cpuset);
+            }
+            for (int cpu = from; cpu <= to; cpu++) {
+                cpus.add(cpu);
+            }
+        }
+        return new ArrayList<>(cpus);
+    }
+
+    /**
+     * Formats CPU numbers as a cpuset list, collapsing consecutive numbers into ranges.
+     *
+     * @param cpus CPU numbers in ascending order
+     * @return the cpuset list
+     */
+    static String format(List<Integer> cpus) {
+        StringBuilder sb = new StringBuilder();
+        int i = 0;
+        while (i < cpus.size()) {
+            int j = i;
+            while (j + 1 < cpus.size() && cpus.get(j + 1) == cpus.get(j) + 1) {
+                j++;
+            }
+            if (sb.length() > 0) {
+                sb.append(',');
+            }
+            sb.append(cpus.get(i));
+            if (j > i) {
+                sb.append('-').append(cpus.get(j));
+            }
+            i = j + 1;
+        }
+        return sb.toString();
+    }
+
+    /**
+     * Splits a cpuset into contiguous, evenly sized shares; earlier shares get one extra CPU
+     * when the CPUs do not divide evenly.
+     *
+     * @param cpuset the cpuset list to split
+     * @param shares the number of shares
+     * @return one cpuset list per share
+     * @throws IllegalArgumentException if there are fewer CPUs than shares
+     */
+    static List<String> split(String cpuset, int shares) {
+        List<Integer> cpus = parse(cpuset);
+        if (cpus.size() < shares) {
+            throw new IllegalArgumentException("cpuset " + cpuset + " has fewer CPUs than the " + shares + " nodes");
+        }
+        List<String> result = new ArrayList<>();
+        int start = 0;
+        for (int share = 0; share < shares; share++) {
+            int size = cpus.size() / shares + (share < cpus.size() % shares ? 1 : 0);
+            result.add(format(cpus.subList(start, start + size)));
+            start += size;
+        }
+        return result;
+    }
+}
@@ -0,0 +1,137 @@
+/*
+ * Copyright (C) 2025-2026 Volt Active Data Inc.
+ *
+ * Use of this source code is governed by an MIT
+ * license that can be found in the LICENSE file or at
+ * https://opensource.org/licenses/MIT.
+ */
+package org.voltdbtest.testcontainer;
+
+import com.github.dockerjava.api.model.HostConfig;
+import com.github.dockerjava.api.model.Mount;
+import com.github.dockerjava.api.model.MountType;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Storage for a node's VoltDB directory: voltdbroot, command logs, snapshots and export overflow.
+ * <p>
+ * By default the data lives in the container's writable layer, which on most CI hosts is an
+ * overlay file system that makes command log and snapshot writes slow. A tmpfs keeps the data in
+ * memory and is discarded with the container; a named volume is a regular docker volume that
+ * survives the container and is picked up again, initialized voltdbroot included, by the next
+ * container that mounts it.
+ *
+ * <pre>{@code
+ * VoltDBCluster cluster = new VoltDBCluster(license, image, 3, 1)
+ *         .withDataDirectory(DataDirectory.tmpfs(512));
+ * }</pre>
+ */
+public final class DataDirectory {
+
+    /**
+     * Path the data directory is mounted at inside the container.
+     */
+    static final String PATH = "/var/voltdb";
+
+    private enum Kind { TMPFS, VOLUME }
+
+    private final Kind kind;
+    private final Long sizeMb;
+    private final String volumePrefix;
+
+    private DataDirectory(Kind kind, Long sizeMb, String volumePrefix) {
+        this.kind = kind;
+        this.sizeMb = sizeMb;
+        this.volumePrefix = volumePrefix;
+    }
+
+    /**
+     * Keeps the data in memory, without a size cap beyond the container's memory.
+     *
+     * @return a tmpfs data directory
+     */
+    public static DataDirectory tmpfs() {
+        return new DataDirectory(Kind.TMPFS, null, null);
+    }
+
+    /**
+     * Keeps the data in memory, capped at the given size. VoltDB fails writes, such as command
+     * log segments or snapshots, that do not fit.
+     *
+     * @param sizeMb the size cap in megabytes
+     * @return a tmpfs data directory
+     * @throws IllegalArgumentException if {@code sizeMb} is not positive
+     */
+    public static DataDirectory tmpfs(long sizeMb) {
+        if (sizeMb < 1) {
+            throw new IllegalArgumentException("sizeMb must be positive: " + sizeMb);
+        }
+        return new DataDirectory(Kind.TMPFS, sizeMb, null);
+    }
+
+    /**
+     * Keeps the data in named docker volumes, one per node, called {@code <prefix>-<host id>}.
+     * Volumes are created on first use and are not removed; a node that finds an initialized
+     * voltdbroot in its volume starts from it rather than running {@code voltdb init}.
+     *
+     * @param prefix the volume name prefix
+     * @return a named volume data directory
+     * @throws IllegalArgumentException if the prefix is not a valid docker volume name
+     */
+    public static DataDirectory volume(String prefix) {
+        if (prefix == null || !prefix.matches("[a-zA-Z0-9][a-zA-Z0-9_.-]*")) {
+            throw new IllegalArgumentException("Invalid volume name prefix: " + prefix);
+        }
+        return new DataDirectory(Kind.VOLUME, null, prefix);
+    }
+
+    /**
+     * Returns the name of the volume holding a node's data.
+     *
+     * @param hostId the host id of the node
+     * @return the volume name, or null for a tmpfs
+     */
+    String volumeName(String hostId) {
+        return kind == Kind.VOLUME ? volumePrefix + "-" + hostId : null;
+    }
+
+    /**
+     * @return tmpfs mounts to pass to {@code withTmpFs}, empty for a volume
+     */
+    Map<String, String> tmpfsMounts() {
+        if (kind != Kind.TMPFS) {
+            return Map.of();
+        }
+        return Map.of(PATH, sizeMb == null ? "rw,exec,mode=1777" : "rw,exec,mode=1777,size=" + sizeMb + "m");
+    }
+
+    /**
+     * Adds the volume mount of a node, if any, to a container's host config. A host config that
+     * already mounts something at the data directory is left as it is.
+     *
+     * @param hostConfig the host config of the container being created
+     * @param hostId     the host id of the node
+     */
+    void applyTo(HostConfig hostConfig, String hostId) {
+        if (kind != Kind.VOLUME) {
+            return;
+        }
+        List<Mount> mounts = new ArrayList<>();
+        if (hostConfig.getMounts() != null) {
+            mounts.addAll(hostConfig.getMounts());
+        }
+        if (mounts.stream().anyMatch(mount -> PATH.equals(mount.getTarget()))) {
+            return;
+        }
+        mounts.add(new Mount().withType(MountType.VOLUME).withSource(volumeName(hostId)).withTarget(PATH));
+        hostConfig.withMounts(mounts);
+    }
+
+    @Override
+    public String toString() {
+        return kind == Kind.VOLUME ? "volume:" + volumePrefix : "tmpfs:" + (sizeMb == null ? "unbounded" : sizeMb + "m");
+    }
+}
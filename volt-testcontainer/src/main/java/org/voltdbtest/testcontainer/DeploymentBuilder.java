@@ -0,0 +1,583 @@
+/*
+ * Copyright (C) 2025-2026 Volt Active Data Inc.
+ *
+ * Use of this source code is governed by an MIT
+ * license that can be found in the LICENSE file or at
+ * https://opensource.org/licenses/MIT.
+ */
+package org.voltdbtest.testcontainer;
+
+import org.w3c.dom.Document;
+import org.w3c.dom.Element;
+import org.w3c.dom.Node;
+import org.w3c.dom.NodeList;
+import org.xml.sax.InputSource;
+import org.xml.sax.SAXException;
+
+import javax.xml.XMLConstants;
+import javax.xml.parsers.DocumentBuilderFactory;
+import javax.xml.parsers.ParserConfigurationException;
+import javax.xml.transform.OutputKeys;
+import javax.xml.transform.Transformer;
+import javax.xml.transform.TransformerException;
+import javax.xml.transform.TransformerFactory;
+import javax.xml.transform.dom.DOMSource;
+import javax.xml.transform.stream.StreamResult;
+import java.io.IOException;
+import java.io.StringReader;
+import java.io.StringWriter;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Builds a VoltDB deployment file from typed settings.
+ * <p>
+ * Only settings that were explicitly set are written. {@link #build()} starts from the defaults
+ * used by {@link VoltDBContainer} (8 sites per host, metrics every 60 seconds), while
+ * {@link #mergeInto(String)} applies the settings on top of an existing deployment, replacing the
+ * attributes it sets and keeping everything else.
+ *
+ * <pre>{@code
+ * DeploymentBuilder deployment = new DeploymentBuilder()
+ *         .withSitesPerHost(4)
+ *         .withCommandLogSynchronous(true)
+ *         .withCommandLogFrequency(2, 1000)
+ *         .withQueryTimeout(10000);
+ * VoltDBCluster cluster = new VoltDBCluster(license, image, 3, 1).withDeployment(deployment);
+ * }</pre>
+ */
+public final class DeploymentBuilder {
+
+    private static final String EMPTY_DEPLOYMENT = "<deployment/>";
+
+    private Integer hostCount;
+    private Integer kfactor;
+    private Integer sitesPerHost;
+
+    private Boolean commandLogEnabled;
+    private Boolean commandLogSynchronous;
+    private Integer commandLogSizeMb;
+    private Integer commandLogFrequencyMillis;
+    private Integer commandLogFrequencyTransactions;
+
+    private Boolean snapshotsEnabled;
+    private String snapshotFrequency;
+    private Integer snapshotRetain;
+    private String snapshotPrefix;
+
+    private Integer tempTablesMaxSizeMb;
+    private Integer queryTimeoutMillis;
+    private Integer flushIntervalMillis;
+    private Integer exportFlushIntervalMillis;
+
+    private Boolean metricsEnabled;
+    private String metricsInterval;
+
+    private final Map<String, String> topicsBrokerProperties = new LinkedHashMap<>();
+
+    private Integer heapMaxMb;
+
+    /**
+     * Sets the number of hosts in the cluster.
+     *
+     * @param hostCount the host count, at least 1
+     * @return this builder
+     */
+    public DeploymentBuilder withHostCount(int hostCount) {
+        this.hostCount = positive("hostCount", hostCount);
+        return this;
+    }
+
+    /**
+     * Sets the number of additional copies of each partition.
+     *
+     * @param kfactor the kfactor, at least 0
+     * @return this builder
+     */
+    public DeploymentBuilder withKfactor(int kfactor) {
+        if (kfactor < 0) {
+            throw new IllegalArgumentException("kfactor must not be negative: " + kfactor);
+        }
+        this.kfactor = kfactor;
+        return this;
+    }
+
+    /**
+     * Sets the number of execution sites, and so partitions, per host.
+     *
+     * @param sitesPerHost the sites per host, at least 1
+     * @return this builder
+     */
+    public DeploymentBuilder withSitesPerHost(int sitesPerHost) {
+        this.sitesPerHost = positive("sitesPerHost", sitesPerHost);
+        return this;
+    }
+
+    /**
+     * Enables or disables the command log.
+     *
+     * @param enabled true to enable the command log
+     * @return this builder
+     */
+    public DeploymentBuilder withCommandLogEnabled(boolean enabled) {
+        this.commandLogEnabled = enabled;
+        return this;
+    }
+
+    /**
+     * Selects synchronous or asynchronous command logging. Setting this enables the command log.
+     *
+     * @param synchronous true to acknowledge transactions only after they are on disk
+     * @return this builder
+     */
+    public DeploymentBuilder withCommandLogSynchronous(boolean synchronous) {
+        this.commandLogEnabled = true;
+        this.commandLogSynchronous = synchronous;
+        return this;
+    }
+
+    /**
+     * Sets how often the command log is flushed to disk. Setting this enables the command log.
+     *
+     * @param millis       the flush interval in milliseconds
+     * @param transactions the number of transactions between flushes
+     * @return this builder
+     */
+    public DeploymentBuilder withCommandLogFrequency(int millis, int transactions) {
+        this.commandLogEnabled = true;
+        this.commandLogFrequencyMillis = positive("millis", millis);
+        this.commandLogFrequencyTransactions = positive("transactions", transactions);
+        return this;
+    }
+
+    /**
+     * Sets the size of the command log segments. Setting this enables the command log.
+     *
+     * @param megabytes the log size in megabytes
+     * @return this builder
+     */
+    public DeploymentBuilder withCommandLogSize(int megabytes) {
+        this.commandLogEnabled = true;
+        this.commandLogSizeMb = positive("megabytes", megabytes);
+        return this;
+    }
+
+    /**
+     * Enables or disables automatic snapshots.
+     *
+     * @param enabled true to take automatic snapshots
+     * @return this builder
+     */
+    public DeploymentBuilder withSnapshotsEnabled(boolean enabled) {
+        this.snapshotsEnabled = enabled;
+        return this;
+    }
+
+    /**
+     * Sets the automatic snapshot schedule. Setting this enables automatic snapshots.
+     *
+     * @param frequency the interval between snapshots, such as {@code "30m"} or {@code "1h"}
+     * @param retain    the number of snapshots to keep
+     * @return this builder
+     */
+    public DeploymentBuilder withSnapshots(String frequency, int retain) {
+        if (frequency == null || !frequency.matches("\\d+[smh]")) {
+            throw new IllegalArgumentException("frequency must be a number followed by s, m or h: " + frequency);
+        }
+        this.snapshotsEnabled = true;
+        this.snapshotFrequency = frequency;
+        this.snapshotRetain = positive("retain", retain);
+        return this;
+    }
+
+    /**
+     * Sets the file name prefix of automatic snapshots.
+     *
+     * @param prefix the snapshot prefix
+     * @return this builder
+     */
+    public DeploymentBuilder withSnapshotPrefix(String prefix) {
+        this.snapshotPrefix = prefix;
+        return this;
+    }
+
+    /**
+     * Limits the memory a single transaction may use for temporary tables.
+     *
+     * @param megabytes the limit in megabytes
+     * @return this builder
+     */
+    public DeploymentBuilder withTempTablesMaxSize(int megabytes) {
+        this.tempTablesMaxSizeMb = positive("megabytes", megabytes);
+        return this;
+    }
+
+    /**
+     * Sets the timeout for read-only queries.
+     *
+     * @param millis the timeout in milliseconds, or 0 to disable it
+     * @return this builder
+     */
+    public DeploymentBuilder withQueryTimeout(int millis) {
+        if (millis < 0) {
+            throw new IllegalArgumentException("millis must not be negative: " + millis);
+        }
+        this.queryTimeoutMillis = millis;
+        return this;
+    }
+
+    /**
+     * Sets how often export and topic buffers are flushed.
+     *
+     * @param minimumMillis the minimum interval for all flushes in milliseconds
+     * @param exportMillis  the interval for export and topic buffers in milliseconds
+     * @return this builder
+     */
+    public DeploymentBuilder withFlushInterval(int minimumMillis, int exportMillis) {
+        this.flushIntervalMillis = positive("minimumMillis", minimumMillis);
+        this.exportFlushIntervalMillis = positive("exportMillis", exportMillis);
+        return this;
+    }
+
+    /**
+     * Sets a property of the topics broker, such as its network thread count or quotas.
+     *
+     * @param name  the property name
+     * @param value the property value
+     * @return this builder
+     */
+    public DeploymentBuilder withTopicsBrokerProperty(String name, String value) {
+        if (name == null || name.isEmpty() || value == null) {
+            throw new IllegalArgumentException("topics broker property needs a name and a value");
+        }
+        topicsBrokerProperties.put(name, value);
+        return this;
+    }
+
+    /**
+     * Enables or disables system metrics and sets how often they are collected.
+     *
+     * @param enabled  true to collect metrics
+     * @param interval the collection interval, such as {@code "60s"} or {@code "5m"}
+     * @return this builder
+     */
+    public DeploymentBuilder withMetrics(boolean enabled, String interval) {
+        if (interval == null || !interval.matches("\\d+[smh]")) {
+            throw new IllegalArgumentException("interval must be a number followed by s, m or h: " + interval);
+        }
+        this.metricsEnabled = enabled;
+        this.metricsInterval = interval;
+        return this;
+    }
+
+    /**
+     * Sets the maximum Java heap of the server. This is not part of the deployment file; the
+     * container passes it to VoltDB through the {@code VOLTDB_HEAPMAX} environment variable.
+     *
+     * @param megabytes the maximum heap in megabytes
+     * @return this builder
+     */
+    public DeploymentBuilder withHeapMaxMb(int megabytes) {
+        this.heapMaxMb = positive("megabytes", megabytes);
+        return this;
+    }
+
+    Integer getHostCount() {
+        return hostCount;
+    }
+
+    Integer getKfactor() {
+        return kfactor;
+    }
+
+    Integer getSitesPerHost() {
+        return sitesPerHost;
+    }
+
+    Integer getHeapMaxMb() {
+        return heapMaxMb;
+    }
+
+    /**
+     * Creates an independent copy of this builder.
+     *
+     * @return a new builder with the same settings
+     */
+    public DeploymentBuilder copy() {
+        DeploymentBuilder copy = new DeploymentBuilder();
+        copy.hostCount = hostCount;
+        copy.kfactor = kfactor;
+        copy.sitesPerHost = sitesPerHost;
+        copy.commandLogEnabled = commandLogEnabled;
+        copy.commandLogSynchronous = commandLogSynchronous;
+        copy.commandLogSizeMb = commandLogSizeMb;
+        copy.commandLogFrequencyMillis = commandLogFrequencyMillis;
+        copy.commandLogFrequencyTransactions = commandLogFrequencyTransactions;
+        copy.snapshotsEnabled = snapshotsEnabled;
+        copy.snapshotFrequency = snapshotFrequency;
+        copy.snapshotRetain = snapshotRetain;
+        copy.snapshotPrefix = snapshotPrefix;
+        copy.tempTablesMaxSizeMb = tempTablesMaxSizeMb;
+        copy.queryTimeoutMillis = queryTimeoutMillis;
+        copy.flushIntervalMillis = flushIntervalMillis;
+        copy.exportFlushIntervalMillis = exportFlushIntervalMillis;
+        copy.metricsEnabled = metricsEnabled;
+        copy.metricsInterval = metricsInterval;
+        copy.topicsBrokerProperties.putAll(topicsBrokerProperties);
+        copy.heapMaxMb = heapMaxMb;
+        return copy;
+    }
+
+    /**
+     * Creates a copy of this builder with every setting of {@code overrides} applied on top.
+     *
+     * @param overrides settings that take precedence; unset ones keep this builder's value
+     * @return a new builder with the combined settings
+     */
+    DeploymentBuilder overlay(DeploymentBuilder overrides) {
+        DeploymentBuilder result = copy();
+        result.hostCount = first(overrides.hostCount, hostCount);
+        result.kfactor = first(overrides.kfactor, kfactor);
+        result.sitesPerHost = first(overrides.sitesPerHost, sitesPerHost);
+        result.commandLogEnabled = first(overrides.commandLogEnabled, commandLogEnabled);
+        result.commandLogSynchronous = first(overrides.commandLogSynchronous, commandLogSynchronous);
+        result.commandLogSizeMb = first(overrides.commandLogSizeMb, commandLogSizeMb);
+        result.commandLogFrequencyMillis = first(overrides.commandLogFrequencyMillis, commandLogFrequencyMillis);
+        result.commandLogFrequencyTransactions = first(overrides.commandLogFrequencyTransactions, commandLogFrequencyTransactions);
+        result.snapshotsEnabled = first(overrides.snapshotsEnabled, snapshotsEnabled);
+        result.snapshotFrequency = first(overrides.snapshotFrequency, snapshotFrequency);
+        result.snapshotRetain = first(overrides.snapshotRetain, snapshotRetain);
+        result.snapshotPrefix = first(overrides.snapshotPrefix, snapshotPrefix);
+        result.tempTablesMaxSizeMb = first(overrides.tempTablesMaxSizeMb, tempTablesMaxSizeMb);
+        result.queryTimeoutMillis = first(overrides.queryTimeoutMillis, queryTimeoutMillis);
+        result.flushIntervalMillis = first(overrides.flushIntervalMillis, flushIntervalMillis);
+        result.exportFlushIntervalMillis = first(overrides.exportFlushIntervalMillis, exportFlushIntervalMillis);
+        result.metricsEnabled = first(overrides.metricsEnabled, metricsEnabled);
+        result.metricsInterval = first(overrides.metricsInterval, metricsInterval);
+        result.topicsBrokerProperties.putAll(overrides.topicsBrokerProperties);
+        result.heapMaxMb = first(overrides.heapMaxMb, heapMaxMb);
+        return result;
+    }
+
+    private static <T> T first(T preferred, T fallback) {
+        return preferred != null ? preferred : fallback;
+    }
+
+    /**
+     * Builds a complete deployment file. Settings that were not set take the container defaults:
+     * one host, kfactor 0, 8 sites per host and metrics every 60 seconds.
+     *
+     * @return the deployment XML
+     * @throws IllegalArgumentException if the settings are inconsistent
+     */
+    public String build() {
+        Document document = parse(EMPTY_DEPLOYMENT);
+        Element root = document.getDocumentElement();
+        Element cluster = child(root, "cluster");
+        cluster.setAttribute("hostcount", "1");
+        cluster.setAttribute("sitesperhost", "8");
+        cluster.setAttribute("kfactor", "0");
+        Element metrics = child(root, "metrics");
+        metrics.setAttribute("enabled", "true");
+        metrics.setAttribute("interval", "60s");
+        metrics.setAttribute("maxbuffersize", "200");
+        return applyTo(document);
+    }
+
+    /**
+     * Applies the settings of this builder on top of an existing deployment. Attributes and
+     * elements that were not set are left as they are in {@code deploymentXml}.
+     *
+     * @param deploymentXml the deployment to start from
+     * @return the merged deployment XML
+     * @throws IllegalArgumentException if the XML is not a deployment or the merged settings are inconsistent
+     */
+    public String mergeInto(String deploymentXml) {
+        return applyTo(parse(deploymentXml));
+    }
+
+    private String applyTo(Document document) {
+        Element root = document.getDocumentElement();
+        if (!"deployment".equals(root.getTagName())) {
+            throw new IllegalArgumentException("Deployment root element must be <deployment>, was <" + root.getTagName() + ">");
+        }
+
+        if (hostCount != null || kfactor != null || sitesPerHost != null) {
+            Element cluster = child(root, "cluster");
+            set(cluster, "hostcount", hostCount);
+            set(cluster, "kfactor", kfactor);
+            set(cluster, "sitesperhost", sitesPerHost);
+        }
+
+        if (commandLogEnabled != null) {
+            Element commandLog = child(root, "commandlog");
+            set(commandLog, "enabled", commandLogEnabled);
+            set(commandLog, "synchronous", commandLogSynchronous);
+            set(commandLog, "logsize", commandLogSizeMb);
+            if (commandLogFrequencyMillis != null) {
+                Element frequency = child(commandLog, "frequency");
+                set(frequency, "time", commandLogFrequencyMillis);
+                set(frequency, "transactions", commandLogFrequencyTransactions);
+            }
+        }
+
+        if (snapshotsEnabled != null) {
+            Element snapshot = child(root, "snapshot");
+            set(snapshot, "enabled", snapshotsEnabled);
+            set(snapshot, "frequency", snapshotFrequency);
+            set(snapshot, "retain", snapshotRetain);
+            set(snapshot, "prefix", snapshotPrefix);
+        }
+
+        if (tempTablesMaxSizeMb != null) {
+            set(child(child(root, "systemsettings"), "temptables"), "maxsize", tempTablesMaxSizeMb);
+        }
+        if (queryTimeoutMillis != null) {
+            set(child(child(root, "systemsettings"), "query"), "timeout", queryTimeoutMillis);
+        }
+        if (flushIntervalMillis != null) {
+            Element flush = child(child(root, "systemsettings"), "flushinterval");
+            set(flush, "minimum", flushIntervalMillis);
+            set(child(flush, "export"), "interval", exportFlushIntervalMillis);
+        }
+
+        if (!topicsBrokerProperties.isEmpty()) {
+            Element broker = child(child(root, "topics"), "broker");
+            for (Map.Entry<String, String> property : topicsBrokerProperties.entrySet()) {
+                Element element = namedProperty(broker, property.getKey());
+                element.setTextContent(property.getValue());
+            }
+        }
+
+        if (metricsEnabled != null) {
+            Element metrics = child(root, "metrics");
+            set(metrics, "enabled", metricsEnabled);
+            set(metrics, "interval", metricsInterval);
+        }
+
+        validate(root);
+        return serialize(document);
+    }
+
+    private static void validate(Element root) {
+        Element cluster = firstChild(root, "cluster");
+        if (cluster == null) {
+            return;
+        }
+        int hosts = intAttribute(cluster, "hostcount", 1);
+        int k = intAttribute(cluster, "kfactor", 0);
+        int sites = intAttribute(cluster, "sitesperhost", 8);
+        if (hosts < 1 || sites < 1 || k < 0) {
+            throw new IllegalArgumentException("Invalid cluster settings: hostcount=" + hosts
+                                               + " sitesperhost=" + sites + " kfactor=" + k);
+        }
+        if (k >= hosts) {
+            throw new IllegalArgumentException("kfactor " + k + " requires more than " + hosts + " hosts");
+        }
+    }
+
+    private static int intAttribute(Element element, String name, int defaultValue) {
+        String value = element.getAttribute(name);
+        if (value.isEmpty()) {
+            return defaultValue;
+        }
+        try {
+            return Integer.parseInt(value);
+        } catch (NumberFormatException e) {
+            throw new IllegalArgumentException("Attribute " + name + " of <" + element.getTagName()
+                                               + "> is not a number: " + value, e);
+        }
+    }
+
+    private static Integer positive(String name, int value) {
+        if (value < 1) {
+            throw new IllegalArgumentException(name + " must be positive: " + value);
+        }
+        return value;
+    }
+
+    private static void set(Element element, String attribute, Object value) {
+        if (value != null) {
+            element.setAttribute(attribute, String.valueOf(value));
+        }
+    }
+
+    private static Element firstChild(Element parent, String name) {
+        for (Node node = parent.getFirstChild(); node != null; node = node.getNextSibling()) {
+            if (node instanceof Element && name.equals(((Element) node).getTagName())) {
+                return (Element) node;
+            }
+        }
+        return null;
+    }
+
+    private static Element child(Element parent, String name) {
+        Element child = firstChild(parent, name);
+        if (child == null) {
+            child = parent.getOwnerDocument().createElement(name);
+            parent.appendChild(child);
+        }
+        return child;
+    }
+
+    private static Element namedProperty(Element parent, String name) {
+        NodeList properties = parent.getElementsByTagName("property");
+        for (int i = 0; i < properties.getLength(); i++) {
+            Element property = (Element) properties.item(i);
+            if (name.equals(property.getAttribute("name"))) {
+                return property;
+            }
+        }
+        Element property = parent.getOwnerDocument().createElement("property");
+        property.setAttribute("name", name);
+        parent.appendChild(property);
+        return property;
+    }
+
+    private static Document parse(String xml) {
+        if (xml == null || xml.isBlank()) {
+            throw new IllegalArgumentException("Deployment XML is empty");
+        }
+        try {
+            DocumentBuilderFactory factory = DocumentBuilderFactory.newInstance();
+            factory.setFeature("http://apache.org/xml/features/disallow-doctype-decl", true);
+            factory.setFeature(XMLConstants.FEATURE_SECURE_PROCESSING, true);
+            Document document = factory.newDocumentBuilder().parse(new InputSource(new StringReader(xml)));
+            stripWhitespace(document.getDocumentElement());
+            return document;
+        } catch (SAXException | IOException e) {
+            throw new IllegalArgumentException("Deployment is not well-formed XML: " + e.getMessage(), e);
+        } catch (ParserConfigurationException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    // Drops indentation so the serializer can re-indent without doubling blank lines.
+    private static void stripWhitespace(Node node) {
+        Node child = node.getFirstChild();
+        while (child != null) {
+            Node next = child.getNextSibling();
+            if (child.getNodeType() == Node.TEXT_NODE && child.getTextContent().isBlank()) {
+                node.removeChild(child);
+            } else if (child.getNodeType() == Node.ELEMENT_NODE) {
+                stripWhitespace(child);
+            }
+            child = next;
+        }
+    }
+
+    private static String serialize(Document document) {
+        try {
+            document.setXmlStandalone(true);
+            Transformer transformer = TransformerFactory.newInstance().newTransformer();
+            transformer.setOutputProperty(OutputKeys.ENCODING, "UTF-8");
+            transformer.setOutputProperty(OutputKeys.INDENT, "yes");
+            transformer.setOutputProperty("{http://xml.apache.org/xslt}indent-amount", "4");
+            StringWriter writer = new StringWriter();
+            transformer.transform(new DOMSource(document), new StreamResult(writer));
+            return writer.toString();
+        } catch (TransformerException e) {
+            throw new IllegalStateException("Could not write deployment XML", e);
+        }
+    }
+}
@@ -0,0 +1,101 @@
+/*
+ * Copyright (C) 2025-2026 Volt Active Data Inc.
+ *
+ * Use of this source code is governed by an MIT
+ * license that can be found in the LICENSE file or at
+ * https://opensource.org/licenses/MIT.
+ */
+package org.voltdbtest.testcontainer;
+
+import java.time.Duration;
+import java.util.List;
+
+/**
+ * Outcome of {@link VoltDBCluster#addNodes(int)}: the nodes that joined, how long joining and
+ * the elastic rebalance took, how much data moved and the client throughput while it did.
+ */
+public final class ExpansionReport {
+
+    private final List<String> addedHosts;
+    private final Duration joinDuration;
+    private final Duration rebalanceDuration;
+    private final long rowsMoved;
+    private final long transactions;
+    private final boolean rebalanceObserved;
+
+    ExpansionReport(List<String> addedHosts, Duration joinDuration, Duration rebalanceDuration,
+                    long rowsMoved, long transactions, boolean rebalanceObserved) {
+        this.addedHosts = List.copyOf(addedHosts);
+        this.joinDuration = joinDuration;
+        this.rebalanceDuration = rebalanceDuration;
+        this.rowsMoved = rowsMoved;
+        this.transactions = transactions;
+        this.rebalanceObserved = rebalanceObserved;
+    }
+
+    /**
+     * @return host names of the nodes that joined, in join order
+     */
+    public List<String> getAddedHosts() {
+        return addedHosts;
+    }
+
+    /**
+     * @return time from starting the new containers until every one had joined the cluster
+     */
+    public Duration getJoinDuration() {
+        return joinDuration;
+    }
+
+    /**
+     * @return time from the last join until data rebalancing finished
+     */
+    public Duration getRebalanceDuration() {
+        return rebalanceDuration;
+    }
+
+    /**
+     * @return the number of rows moved to the new nodes
+     */
+    public long getRowsMoved() {
+        return rowsMoved;
+    }
+
+    /**
+     * @return user procedure invocations completed by the cluster while rebalancing
+     */
+    public long getTransactions() {
+        return transactions;
+    }
+
+    /**
+     * Returns the client throughput while rebalancing, counting user procedures only.
+     * Zero when no workload was running.
+     *
+     * @return transactions per second during the rebalance
+     */
+    public double getTransactionsPerSecond() {
+        long millis = rebalanceDuration.toMillis();
+        return millis == 0 ? 0 : transactions * 1000.0 / millis;
+    }
+
+    /**
+     * Returns whether rebalance progress was seen. A rebalance of little or no data can finish
+     * between two polls, in which case the duration only bounds it and no rows are reported.
+     *
+     * @return true if rebalance statistics were observed while it ran
+     */
+    public boolean isRebalanceObserved() {
+        return rebalanceObserved;
+    }
+
+    @Override
+    public String toString() {
+        return "ExpansionReport{addedHosts=" + addedHosts
+               + ", joinMillis=" + joinDuration.toMillis()
+               + ", rebalanceMillis=" + rebalanceDuration.toMillis()
+               + ", rowsMoved=" + rowsMoved
+               + ", transactionsPerSecond=" + String.format("%.1f", getTransactionsPerSecond())
+               + ", rebalanceObserved=" + rebalanceObserved + '}';
+    }
+}
@@ -0,0 +1,155 @@
+/*
+ * Copyright (C) 2025-2026 Volt Active Data Inc.
+ *
+ * Use of this source code is governed by an MIT
+ * license that can be found in the LICENSE file or at
+ * https://opensource.org/licenses/MIT.
+ */
+package org.voltdbtest.testcontainer;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.testcontainers.images.builder.Transferable;
+import org.testcontainers.utility.MountableFile;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.security.DigestOutputStream;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Collection;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+/**
+ * Host-side cache of initialized {@code voltdbroot} directories.
+ * <p>
+ * Entries are keyed by a SHA-256 hash of the image name and every file that {@code voltdb init}
+ * reads: the deployment, the license, and the initial schemas and classes. A container whose key
+ * is cached has the archived {@code voltdbroot} copied in and extracted by the entrypoint, so
+ * catalog compilation is skipped. On a miss the entrypoint archives {@code voltdbroot} right
+ * after init and the container copies it back out once started.
+ */
+final class InitCache {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(InitCache.class);
+
+    /**
+     * Path inside the container of an archive to restore instead of running init.
+     */
+    static final String RESTORE_ARCHIVE = "/etc/voltdbroot-init.tgz";
+
+    /**
+     * Path inside the container where the entrypoint archives a freshly initialized voltdbroot.
+     */
+    static final String SAVE_ARCHIVE = "/tmp/voltdbroot-init.tgz";
+
+    /**
+     * Default host directory for cached archives.
+     */
+    static final Path DEFAULT_DIR = Path.of(System.getProperty("user.home"), ".voltdb-testcontainer", "init-cache");
+
+    // Bump when the archive layout or entrypoint changes in a way that invalidates old entries.
+    private static final String FORMAT_VERSION = "1";
+
+    private InitCache() {
+    }
+
+    /**
+     * Computes the cache key for a container.
+     *
+     * @param image  the docker image name
+     * @param inputs container paths and contents of every file read by init, in copy order
+     * @return a hex-encoded SHA-256 digest
+     */
+    static String key(String image, Collection<Map.Entry<String, Transferable>> inputs) {
+        MessageDigest digest = sha256();
+        try (OutputStream out = new DigestOutputStream(OutputStream.nullOutputStream(), digest)) {
+            out.write((FORMAT_VERSION + "\0" + image + "\0").getBytes(StandardCharsets.UTF_8));
+            for (Map.Entry<String, Transferable> input : inputs) {
+                out.write((input.getKey() + "\0").getBytes(StandardCharsets.UTF_8));
+                writeContent(input.getValue(), out);
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException("Could not hash the init cache inputs", e);
+        }
+        return HexFormat.of().formatHex(digest.digest());
+    }
+
+    /**
+     * Writes the content of a file to copy. A host file or directory is read from disk, with
+     * the files of a directory in name order, so the hash does not depend on timestamps.
+     */
+    private static void writeContent(Transferable transferable, OutputStream out) throws IOException {
+        if (!(transferable instanceof MountableFile)) {
+            out.write(transferable.getBytes());
+            return;
+        }
+        Path root = Path.of(((MountableFile) transferable).getResolvedPath());
+        List<Path> files;
+        try (Stream<Path> walk = Files.walk(root)) {
+            files = walk.filter(Files::isRegularFile).sorted().collect(Collectors.toList());
+        }
+        for (Path file : files) {
+            out.write((root.relativize(file) + "\0").getBytes(StandardCharsets.UTF_8));
+            Files.copy(file, out);
+        }
+    }
+
+    /**
+     * @param dir the cache directory
+     * @param key the cache key
+     * @return the archive file for the key
+     */
+    static Path archive(Path dir, String key) {
+        return dir.resolve(key + ".tgz");
+    }
+
+    /**
+     * Copies a freshly saved archive out of a started container into the cache. The copy is
+     * written to a temporary file and moved into place, so concurrent nodes and JVMs never
+     * observe a partial entry. Failures are logged and otherwise ignored.
+     *
+     * @param container the started container
+     * @param target    the cache entry to create
+     */
+    static void store(VoltDBContainer container, Path target) {
+        if (Files.exists(target)) {
+            return;
+        }
+        Path temp = null;
+        try {
+            Files.createDirectories(target.getParent());
+            temp = Files.createTempFile(target.getParent(), target.getFileName().toString(), ".tmp");
+            container.copyFileFromContainer(SAVE_ARCHIVE, temp.toString());
+            Files.move(temp, target, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+            LOGGER.info("Cached initialized voltdbroot in {}", target);
+        } catch (IOException | RuntimeException e) {
+            LOGGER.warn("Could not cache initialized voltdbroot in {}", target, e);
+        } finally {
+            if (temp != null) {
+                try {
+                    Files.deleteIfExists(temp);
+                } catch (IOException e) {
+                    // ignore, leaves a stray temp file behind
+                }
+            }
+        }
+    }
+
+    private static MessageDigest sha256() {
+        try {
+            return MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+}
@@ -0,0 +1,168 @@
+/*
+ * Copyright (C) 2025-2026 Volt Active Data Inc.
+ *
+ * Use of this source code is governed by an MIT
+ * license that can be found in the LICENSE file or at
+ * https://opensource.org/licenses/MIT.
+ */
+package org.voltdbtest.testcontainer;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.net.ServerSocket;
+import java.net.Socket;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * A local TCP proxy that delays and throttles the bytes it forwards according to a
+ * {@link LinkProfile}, to put client connections on a slow link.
+ * <p>
+ * Each chunk read from one side is held until its delay has passed and then written to the other
+ * side, in order; jitter therefore never reorders data, as it would not on a TCP connection.
+ * The bandwidth cap is enforced per direction of each connection. Packet loss cannot be expressed
+ * above TCP and is ignored.
+ */
+final class LatencyProxy implements AutoCloseable {
+
+    private static final int BUFFER_SIZE = 16 * 1024;
+    // Chunks held per direction before the reader stops reading, so a slow link pushes back on the sender.
+    private static final int MAX_QUEUED_CHUNKS = 64;
+    // Marks the end of a stream in the delay queue.
+    private static final byte[] EOF = new byte[0];
+
+    private final String targetHost;
+    private final int targetPort;
+    private final LinkProfile profile;
+    private final ServerSocket serverSocket;
+    private final List<Socket> sockets = new CopyOnWriteArrayList<>();
+
+    LatencyProxy(String targetHost, int targetPort, LinkProfile profile) throws IOException {
+        this.targetHost = targetHost;
+        this.targetPort = targetPort;
+        this.profile = profile;
+        this.serverSocket = new ServerSocket(0, 50, InetAddress.getLoopbackAddress());
+        thread("accept", this::acceptLoop).start();
+    }
+
+    /**
+     * @return the local port clients connect to instead of the target
+     */
+    int getPort() {
+        return serverSocket.getLocalPort();
+    }
+
+    private void acceptLoop() {
+        while (!serverSocket.isClosed()) {
+            try {
+                Socket client = serverSocket.accept();
+                Socket target = new Socket();
+                target.connect(new InetSocketAddress(targetHost, targetPort));
+                client.setTcpNoDelay(true);
+                target.setTcpNoDelay(true);
+                sockets.add(client);
+                sockets.add(target);
+                pipe(client, target);
+                pipe(target, client);
+            } catch (IOException e) {
+                // closed, or the target refused the connection; the client sees its socket close
+            }
+        }
+    }
+
+    private void pipe(Socket from, Socket to) {
+        BlockingQueue<Chunk> queue = new LinkedBlockingQueue<>(MAX_QUEUED_CHUNKS);
+        thread("read", () -> {
+            long lastDue = 0;
+            // the writer closes both sockets once the end of the stream has been forwarded
+            try {
+                InputStream in = from.getInputStream();
+                byte[] buffer = new byte[BUFFER_SIZE];
+                int read;
+                while ((read = in.read(buffer)) >= 0) {
+                    // never due before the previous chunk, so jitter cannot reorder the stream
+                    lastDue = Math.max(lastDue, System.nanoTime() + profile.nextDelayNanos());
+                    queue.put(new Chunk(Arrays.copyOf(buffer, read), lastDue));
+                }
+                queue.put(new Chunk(EOF, lastDue));
+            } catch (IOException e) {
+                // connection closed
+                queue.offer(new Chunk(EOF, lastDue));
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }).start();
+        thread("write", () -> {
+            try {
+                OutputStream out = to.getOutputStream();
+                while (true) {
+                    Chunk chunk = queue.take();
+                    long wait = chunk.due - System.nanoTime();
+                    if (wait > 0) {
+                        TimeUnit.NANOSECONDS.sleep(wait);
+                    }
+                    if (chunk.data == EOF) {
+                        break;
+                    }
+                    out.write(chunk.data);
+                    out.flush();
+                    if (profile.getBandwidthKbps() > 0) {
+                        TimeUnit.NANOSECONDS.sleep(chunk.data.length * 8L * 1_000_000L / profile.getBandwidthKbps());
+                    }
+                }
+            } catch (IOException e) {
+                // connection closed
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            } finally {
+                // release a reader blocked on a full queue; its next read fails on the closed socket
+                queue.clear();
+                closeQuietly(from);
+                closeQuietly(to);
+                sockets.remove(from);
+                sockets.remove(to);
+            }
+        }).start();
+    }
+
+    private static Thread thread(String name, Runnable runnable) {
+        Thread thread = new Thread(runnable, "VoltDB latency proxy " + name);
+        thread.setDaemon(true);
+        return thread;
+    }
+
+    private static void closeQuietly(Socket socket) {
+        try {
+            socket.close();
+        } catch (IOException e) {
+            // already closed
+        }
+    }
+
+    @Override
+    public void close() {
+        try {
+            serverSocket.close();
+        } catch (IOException e) {
+            // already closed
+        }
+        sockets.forEach(LatencyProxy::closeQuietly);
+    }
+
+    private static final class Chunk {
+        private final byte[] data;
+        private final long due;
+
+        private Chunk(byte[] data, long due) {
+            this.data = data;
+            this.due = due;
+        }
+    }
+}
@@ -0,0 +1,124 @@
+/*
+ * Copyright (C) 2025-2026 Volt Active Data Inc.
+ *
+ * Use of this source code is governed by an MIT
+ * license that can be found in the LICENSE file or at
+ * https://opensource.org/licenses/MIT.
+ */
+package org.voltdbtest.testcontainer;
+
+import java.time.Duration;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * Network conditions to impose on a link: added latency with jitter, a bandwidth cap and
+ * packet loss.
+ *
+ * <pre>{@code
+ * // roughly 2ms round trip between nodes, as across availability zones
+ * cluster.withLinkProfile(LinkProfile.of(Duration.ofMillis(1), Duration.ofMillis(0), 0, 0));
+ * }</pre>
+ *
+ * @see VoltDBCluster#withLinkProfile(LinkProfile)
+ * @see VoltDBCluster#withClientLinkProfile(LinkProfile)
+ */
+public final class LinkProfile {
+
+    private final Duration latency;
+    private final Duration jitter;
+    private final long bandwidthKbps;
+    private final double lossPercent;
+
+    private LinkProfile(Duration latency, Duration jitter, long bandwidthKbps, double lossPercent) {
+        this.latency = latency;
+        this.jitter = jitter;
+        this.bandwidthKbps = bandwidthKbps;
+        this.lossPercent = lossPercent;
+    }
+
+    /**
+     * Creates a link profile.
+     *
+     * @param latency       one-way delay added to every packet leaving a node
+     * @param jitter        random variation of the delay, up to this much either way
+     * @param bandwidthKbps bandwidth cap in kilobits per second, 0 for no cap
+     * @param lossPercent   percentage of packets dropped, 0 for none
+     * @return the link profile
+     * @throws IllegalArgumentException if a value is negative, or the loss exceeds 100 percent
+     */
+    public static LinkProfile of(Duration latency, Duration jitter, long bandwidthKbps, double lossPercent) {
+        if (latency.isNegative() || jitter.isNegative()) {
+            throw new IllegalArgumentException("latency and jitter must not be negative");
+        }
+        if (bandwidthKbps < 0) {
+            throw new IllegalArgumentException("bandwidthKbps must not be negative: " + bandwidthKbps);
+        }
+        if (lossPercent < 0 || lossPercent > 100) {
+            throw new IllegalArgumentException("lossPercent must be between 0 and 100: " + lossPercent);
+        }
+        return new LinkProfile(latency, jitter, bandwidthKbps, lossPercent);
+    }
+
+    /**
+     * @return one-way delay added to every packet
+     */
+    public Duration getLatency() {
+        return latency;
+    }
+
+    /**
+     * @return random variation of the delay
+     */
+    public Duration getJitter() {
+        return jitter;
+    }
+
+    /**
+     * @return bandwidth cap in kilobits per second, 0 for no cap
+     */
+    public long getBandwidthKbps() {
+        return bandwidthKbps;
+    }
+
+    /**
+     * @return percentage of packets dropped
+     */
+    public double getLossPercent() {
+        return lossPercent;
+    }
+
+    /**
+     * Renders the profile as {@code tc netem} options.
+     *
+     * @return netem options such as {@code delay 1000us 200us loss 0.1% rate 100000kbit}
+     */
+    String netemOptions() {
+        StringBuilder options = new StringBuilder("delay ").append(latency.toNanos() / 1000).append("us");
+        if (!jitter.isZero()) {
+            options.append(' ').append(jitter.toNanos() / 1000).append("us");
+        }
+        if (lossPercent > 0) {
+            options.append(" loss ").append(lossPercent).append('%');
+        }
+        if (bandwidthKbps > 0) {
+            options.append(" rate ").append(bandwidthKbps).append("kbit");
+        }
+        return options.toString();
+    }
+
+    /**
+     * Draws the delay of one transfer: the latency plus a uniform jitter, never negative.
+     *
+     * @return the delay in nanoseconds
+     */
+    long nextDelayNanos() {
+        long jitterNanos = jitter.toNanos();
+        long offset = jitterNanos == 0 ? 0 : ThreadLocalRandom.current().nextLong(-jitterNanos, jitterNanos + 1);
+        return Math.max(0, latency.toNanos() + offset);
+    }
+
+    @Override
+    public String toString() {
+        return "LinkProfile{" + netemOptions() + '}';
+    }
+}
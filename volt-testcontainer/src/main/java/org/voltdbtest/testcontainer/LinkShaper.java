@@ -0,0 +1,68 @@
+/*
+ * Copyright (C) 2025-2026 Volt Active Data Inc.
+ *
+ * Use of this source code is governed by an MIT
+ * license that can be found in the LICENSE file or at
+ * https://opensource.org/licenses/MIT.
+ */
+package org.voltdbtest.testcontainer;
+
+import com.github.dockerjava.api.model.Capability;
+import org.testcontainers.containers.GenericContainer;
+import org.testcontainers.containers.startupcheck.OneShotStartupCheckStrategy;
+import org.testcontainers.utility.DockerImageName;
+
+import java.time.Duration;
+
+/**
+ * Applies {@link LinkProfile}s to the traffic between VoltDB nodes with {@code tc netem}.
+ * <p>
+ * VoltDB images ship neither {@code tc} nor the capability to use it, so the rules are set from a
+ * short-lived sidecar container that joins the node's network namespace with {@code NET_ADMIN}.
+ * Only packets to or from the internal port are shaped, leaving client, admin and topics traffic
+ * as it is.
+ */
+final class LinkShaper {
+
+    /**
+     * Image providing {@code tc}.
+     */
+    static final String TC_IMAGE = "nicolaka/netshoot:v0.13";
+
+    /**
+     * Port VoltDB nodes use to talk to each other.
+     */
+    static final int INTERNAL_PORT = 3021;
+
+    private LinkShaper() {
+    }
+
+    /**
+     * Shapes the inter-node traffic leaving a node, replacing any previous profile.
+     *
+     * @param voltDBContainer a running node
+     * @param profile         the conditions to impose, or null to remove shaping
+     */
+    static void apply(VoltDBContainer voltDBContainer, LinkProfile profile) {
+        // every interface but loopback: a node moved to another network gets a new one, not always eth0
+        String script = "for dev in $(ls /sys/class/net | grep -v '^lo$'); do"
+                        + " tc qdisc del dev $dev root 2>/dev/null || true; ";
+        if (profile != null) {
+            // a fourth prio band that only inter-node packets are filtered into carries the netem qdisc
+            script += "tc qdisc add dev $dev root handle 1: prio bands 4 priomap 1 2 2 2 1 2 0 0 1 1 1 1 1 1 1 1"
+                      + " && tc qdisc add dev $dev parent 1:4 handle 40: netem " + profile.netemOptions()
+                      + " && tc filter add dev $dev parent 1:0 protocol ip prio 1 u32 match ip dport "
+                      + INTERNAL_PORT + " 0xffff flowid 1:4"
+                      + " && tc filter add dev $dev parent 1:0 protocol ip prio 1 u32 match ip sport "
+                      + INTERNAL_PORT + " 0xffff flowid 1:4 || exit 1; ";
+        }
+        script += "done";
+        try (GenericContainer<?> sidecar = new GenericContainer<>(DockerImageName.parse(TC_IMAGE))) {
+            sidecar.withNetworkMode("container:" + voltDBContainer.getContainerId())
+                    .withCreateContainerCmdModifier(cmd -> cmd.getHostConfig().withCapAdd(Capability.NET_ADMIN))
+                    .withStartupCheckStrategy(new OneShotStartupCheckStrategy().withTimeout(Duration.ofSeconds(60)))
+                    .withCommand("sh", "-c", script)
+                    .start();
+        }
+    }
+}
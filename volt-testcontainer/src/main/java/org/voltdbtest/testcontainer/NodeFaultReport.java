@@ -0,0 +1,102 @@
+/*
+ * Copyright (C) 2025-2026 Volt Active Data Inc.
+ *
+ * Use of this source code is governed by an MIT
+ * license that can be found in the LICENSE file or at
+ * https://opensource.org/licenses/MIT.
+ */
+package org.voltdbtest.testcontainer;
+
+import java.time.Duration;
+
+/**
+ * Timings of a node failure or recovery injected with {@link VoltDBCluster#killNode(String)},
+ * {@link VoltDBCluster#stopNode(String)} or {@link VoltDBCluster#rejoinNode(String)}.
+ * All durations are measured from the moment the action was taken.
+ */
+public final class NodeFaultReport {
+
+    /**
+     * The injected action.
+     */
+    public enum Action {
+        /**
+         * The node's container was killed without warning.
+         */
+        KILL,
+        /**
+         * The node was shut down with {@code @StopNode}.
+         */
+        STOP,
+        /**
+         * The node was restarted and rejoined the cluster.
+         */
+        REJOIN
+    }
+
+    private final String host;
+    private final Action action;
+    private final Duration failureDetection;
+    private final Duration clientRecovery;
+    private final Duration rejoin;
+
+    NodeFaultReport(String host, Action action, Duration failureDetection, Duration clientRecovery, Duration rejoin) {
+        this.host = host;
+        this.action = action;
+        this.failureDetection = failureDetection;
+        this.clientRecovery = clientRecovery;
+        this.rejoin = rejoin;
+    }
+
+    /**
+     * @return the host name of the node
+     */
+    public String getHost() {
+        return host;
+    }
+
+    /**
+     * @return the injected action
+     */
+    public Action getAction() {
+        return action;
+    }
+
+    /**
+     * Returns the time until the surviving nodes no longer listed the node as a member.
+     *
+     * @return the failure detection time, or null for a rejoin
+     */
+    public Duration getFailureDetection() {
+        return failureDetection;
+    }
+
+    /**
+     * Returns the time until a multi-partition read through the shared client succeeded again,
+     * which bounds how long transactions stalled.
+     *
+     * @return the client recovery time
+     */
+    public Duration getClientRecovery() {
+        return clientRecovery;
+    }
+
+    /**
+     * Returns the time from restarting the node until it had completed its rejoin.
+     *
+     * @return the rejoin time, or null for a kill or stop
+     */
+    public Duration getRejoin() {
+        return rejoin;
+    }
+
+    @Override
+    public String toString() {
+        return "NodeFaultReport{host=" + host
+               + ", action=" + action
+               + (failureDetection == null ? "" : ", failureDetectionMillis=" + failureDetection.toMillis())
+               + ", clientRecoveryMillis=" + clientRecovery.toMillis()
+               + (rejoin == null ? "" : ", rejoinMillis=" + rejoin.toMillis())
+               + '}';
+    }
+}
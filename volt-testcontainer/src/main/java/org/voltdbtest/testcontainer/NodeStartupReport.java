@@ -0,0 +1,166 @@
+/*
+ * Copyright (C) 2025-2026 Volt Active Data Inc.
+ *
+ * Use of this source code is governed by an MIT
+ * license that can be found in the LICENSE file or at
+ * https://opensource.org/licenses/MIT.
+ */
+package org.voltdbtest.testcontainer;
+
+import java.time.Duration;
+import java.util.EnumMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Timings of the phases of one {@link VoltDBContainer} start.
+ * <p>
+ * The report is filled in while the container starts: docker steps are timed by the container's
+ * lifecycle hooks, while server steps are taken from the container log, so they are accurate to
+ * the latency of log streaming. Phases that did not happen, such as {@code voltdb init} when the
+ * init cache is used, are left out.
+ * <p>
+ * Server steps are only timed with {@link VoltDBContainer#withStartupReport(boolean)}. They rely
+ * on markers logged by the entrypoint and on VoltDB log lines such as {@code Build: } and
+ * {@code Host id of this node is}, which are not a stable interface: if a VoltDB version logs
+ * different text, the phases bounded by those lines are missing from the report.
+ */
+public final class NodeStartupReport {
+
+    /**
+     * A timed step of the startup.
+     */
+    public enum Phase {
+        /**
+         * Resolving, and if needed pulling, the docker image.
+         */
+        IMAGE_RESOLUTION(Event.STARTED, Event.IMAGE_RESOLVED),
+        /**
+         * Creating the docker container.
+         */
+        CONTAINER_CREATE(Event.IMAGE_RESOLVED, Event.COPY_BEGIN),
+        /**
+         * Copying license, deployment, schemas, classes and extension jars into the container.
+         */
+        FILE_COPY(Event.COPY_BEGIN, Event.CREATED),
+        /**
+         * Starting the docker container until testcontainers reports it running.
+         */
+        CONTAINER_START(Event.CREATED, Event.STARTING),
+        /**
+         * Copying the generated entrypoint script into the running container.
+         */
+        ENTRYPOINT_COPY(Event.STARTING, Event.ENTRYPOINT_COPIED),
+        /**
+         * Running {@code voltdb init}, including catalog compilation.
+         */
+        VOLTDB_INIT(Event.INIT_BEGIN, Event.INIT_END),
+        /**
+         * Launching {@code voltdb start} until the server process logs its build.
+         */
+        VOLTDB_START(Event.START_EXEC, Event.BOOTED),
+        /**
+         * Joining the cluster mesh until the node is assigned a host id.
+         */
+        MESH_JOIN(Event.BOOTED, Event.MESH_JOINED),
+        /**
+         * Cluster initialization until the server reports it completed.
+         */
+        CLUSTER_READY(Event.MESH_JOINED, Event.READY),
+        /**
+         * Connecting a client until the first successful {@code @Ping}.
+         */
+        FIRST_PING(Event.READY, Event.PINGED);
+
+        private final Event from;
+        private final Event to;
+
+        Phase(Event from, Event to) {
+            this.from = from;
+            this.to = to;
+        }
+    }
+
+    /**
+     * Points in time recorded during startup; each phase spans two of them.
+     */
+    enum Event {
+        STARTED, IMAGE_RESOLVED, COPY_BEGIN, CREATED, STARTING, ENTRYPOINT_COPIED,
+        INIT_BEGIN, INIT_END, START_EXEC, BOOTED, MESH_JOINED, READY, PINGED
+    }
+
+    private final String host;
+    private final Map<Event, Long> events = new EnumMap<>(Event.class);
+
+    NodeStartupReport(String host) {
+        this.host = host;
+    }
+
+    /**
+     * Records the first occurrence of an event; later occurrences are ignored.
+     *
+     * @param event the event that just happened
+     */
+    synchronized void mark(Event event) {
+        events.putIfAbsent(event, System.nanoTime());
+    }
+
+    /**
+     * @return the host name of the node
+     */
+    public String getHost() {
+        return host;
+    }
+
+    /**
+     * Returns the duration of every phase that was observed, in startup order.
+     *
+     * @return phase durations
+     */
+    public synchronized Map<Phase, Duration> getPhases() {
+        Map<Phase, Duration> phases = new LinkedHashMap<>();
+        for (Phase phase : Phase.values()) {
+            Long from = events.get(phase.from);
+            Long to = events.get(phase.to);
+            if (from != null && to != null) {
+                phases.put(phase, Duration.ofNanos(Math.max(0, to - from)));
+            }
+        }
+        return phases;
+    }
+
+    /**
+     * @return time from the start call until the last recorded event
+     */
+    public synchronized Duration getTotal() {
+        Long first = events.get(Event.STARTED);
+        if (first == null) {
+            return Duration.ZERO;
+        }
+        long last = events.values().stream().mapToLong(Long::longValue).max().orElse(first);
+        return Duration.ofNanos(last - first);
+    }
+
+    /**
+     * Renders the report as a JSON object with millisecond durations.
+     *
+     * @return the report as JSON
+     */
+    public String toJson() {
+        StringBuilder json = new StringBuilder()
+                .append("{\"host\":\"").append(host).append('"')
+                .append(",\"totalMillis\":").append(getTotal().toMillis())
+                .append(",\"phases\":{");
+        String separator = "";
+        for (Map.Entry<Phase, Duration> phase : getPhases().entrySet()) {
+            json.append(separator).append('"').append(phase.getKey()).append("\":").append(phase.getValue().toMillis());
+            separator = ",";
+        }
+        return json.append("}}").toString();
+    }
+
+    @Override
+    public String toString() {
+        return toJson();
+    }
+}
@@ -0,0 +1,84 @@
+/*
+ * Copyright (C) 2025-2026 Volt Active Data Inc.
+ *
+ * Use of this source code is governed by an MIT
+ * license that can be found in the LICENSE file or at
+ * https://opensource.org/licenses/MIT.
+ */
+package org.voltdbtest.testcontainer;
+
+import java.time.Duration;
+import java.util.Set;
+
+/**
+ * Outcome of {@link VoltDBCluster#partitionNetwork(Set, Set)}: which side of the split kept
+ * running, how long VoltDB took to resolve the partition and how long clients could not commit.
+ * All durations are measured from the moment the network was split.
+ */
+public final class PartitionReport {
+
+    private final Set<String> sideA;
+    private final Set<String> sideB;
+    private final Set<String> survivors;
+    private final Duration detection;
+    private final Duration clientOutage;
+
+    PartitionReport(Set<String> sideA, Set<String> sideB, Set<String> survivors, Duration detection, Duration clientOutage) {
+        this.sideA = Set.copyOf(sideA);
+        this.sideB = Set.copyOf(sideB);
+        this.survivors = Set.copyOf(survivors);
+        this.detection = detection;
+        this.clientOutage = clientOutage;
+    }
+
+    /**
+     * @return host names on the first side of the split
+     */
+    public Set<String> getSideA() {
+        return sideA;
+    }
+
+    /**
+     * @return host names on the second side of the split
+     */
+    public Set<String> getSideB() {
+        return sideB;
+    }
+
+    /**
+     * Returns the side that kept running as the cluster; VoltDB shuts down the other side to
+     * avoid a split brain.
+     *
+     * @return host names of the surviving side, empty if neither side survived
+     */
+    public Set<String> getSurvivors() {
+        return survivors;
+    }
+
+    /**
+     * @return time until one side had dropped the other from the cluster, or both sides were down
+     */
+    public Duration getDetection() {
+        return detection;
+    }
+
+    /**
+     * Returns the time until a multi-partition read on the surviving side succeeded, the window in
+     * which clients could not commit.
+     *
+     * @return the client-visible outage, or null if no side survived
+     */
+    public Duration getClientOutage() {
+        return clientOutage;
+    }
+
+    @Override
+    public String toString() {
+        return "PartitionReport{sideA=" + sideA
+               + ", sideB=" + sideB
+               + ", survivors=" + survivors
+               + ", detectionMillis=" + detection.toMillis()
+               + ", clientOutageMillis=" + (clientOutage == null ? "none" : clientOutage.toMillis())
+               + '}';
+    }
+}
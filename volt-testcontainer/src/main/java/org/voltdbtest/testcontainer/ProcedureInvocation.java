@@ -0,0 +1,56 @@
+/*
+ * Copyright (C) 2025-2026 Volt Active Data Inc.
+ *
+ * Use of this source code is governed by an MIT
+ * license that can be found in the LICENSE file or at
+ * https://opensource.org/licenses/MIT.
+ */
+package org.voltdbtest.testcontainer;
+
+import java.util.Arrays;
+import java.util.Objects;
+
+/**
+ * A single stored procedure call, used with the batch {@code callProceduresAsync} methods of
+ * {@link VoltDBCluster} and {@link VoltDBContainer}.
+ */
+public final class ProcedureInvocation {
+
+    private final String procedure;
+    private final Object[] parameters;
+
+    private ProcedureInvocation(String procedure, Object[] parameters) {
+        this.procedure = Objects.requireNonNull(procedure, "procedure");
+        this.parameters = parameters == null ? new Object[0] : parameters;
+    }
+
+    /**
+     * Creates an invocation of the named procedure with the given parameters.
+     *
+     * @param procedure the name of the stored procedure to call
+     * @param parameters the parameters to pass to the stored procedure
+     * @return a new invocation
+     */
+    public static ProcedureInvocation of(String procedure, Object... parameters) {
+        return new ProcedureInvocation(procedure, parameters);
+    }
+
+    /**
+     * @return the name of the stored procedure
+     */
+    public String getProcedure() {
+        return procedure;
+    }
+
+    /**
+     * @return the parameters passed to the stored procedure
+     */
+    public Object[] getParameters() {
+        return parameters;
+    }
+
+    @Override
+    public String toString() {
+        return procedure + Arrays.toString(parameters);
+    }
+}
@@ -0,0 +1,137 @@
+/*
+ * Copyright (C) 2025-2026 Volt Active Data Inc.
+ *
+ * Use of this source code is governed by an MIT
+ * license that can be found in the LICENSE file or at
+ * https://opensource.org/licenses/MIT.
+ */
+package org.voltdbtest.testcontainer;
+
+import org.voltdb.client.Client2;
+import org.voltdb.client.ClientResponse;
+
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Consumer;
+import java.util.function.ObjLongConsumer;
+import java.util.stream.Collectors;
+import java.util.stream.LongStream;
+
+/**
+ * Submits a sequence of procedure calls through a {@link Client2}, keeping at most a fixed
+ * number of them in flight.
+ */
+final class ProcedurePipeline {
+
+    /**
+     * Number of calls kept in flight when the caller does not choose a window.
+     */
+    static final int DEFAULT_WINDOW = 500;
+
+    /**
+     * Largest window used, the default outstanding transaction limit of a {@link Client2}; calls
+     * beyond it would be queued by the client rather than wait here.
+     */
+    static final int MAX_WINDOW = 1000;
+
+    private ProcedurePipeline() {
+    }
+
+    /**
+     * Submits every invocation in order and collects the responses.
+     *
+     * @param client      the connected client to submit through
+     * @param invocations the calls to make, consumed lazily
+     * @param maxInFlight the maximum number of outstanding calls, capped at {@link #MAX_WINDOW}
+     * @return a future completed with the responses in invocation order once every submitted call
+     * has completed, or completed exceptionally with the first failure
+     * @see #submit(Client2, Iterator, int, Consumer)
+     */
+    static CompletableFuture<List<ClientResponse>> submit(Client2 client, Iterator<ProcedureInvocation> invocations,
+                                                          int maxInFlight) {
+        Map<Long, ClientResponse> responses = new ConcurrentHashMap<>();
+        // responses complete out of order, so each is kept under its position in the sequence
+        return pipeline(client, invocations, maxInFlight, (response, index) -> responses.put(index, response))
+                .thenApply(count -> LongStream.range(0, count).mapToObj(responses::get).collect(Collectors.toList()));
+    }
+
+    /**
+     * Submits every invocation in order. The calling thread blocks whenever {@code maxInFlight}
+     * calls are outstanding, so producers can never outrun the server; submission stops at the
+     * first failed call. Only the calls in flight are tracked, so any number of invocations can be
+     * made without holding on to their responses.
+     *
+     * @param client      the connected client to submit through
+     * @param invocations the calls to make, consumed lazily
+     * @param maxInFlight the maximum number of outstanding calls, capped at {@link #MAX_WINDOW}
+     * @param onResponse  called with each successful response, on a client thread
+     * @return a future completed with the number of calls made once every submitted call has
+     * completed, or completed exceptionally with the first failure
+     */
+    static CompletableFuture<Long> submit(Client2 client, Iterator<ProcedureInvocation> invocations,
+                                          int maxInFlight, Consumer<ClientResponse> onResponse) {
+        return pipeline(client, invocations, maxInFlight, (response, index) -> onResponse.accept(response));
+    }
+
+    private static CompletableFuture<Long> pipeline(Client2 client, Iterator<ProcedureInvocation> invocations,
+                                                    int maxInFlight, ObjLongConsumer<ClientResponse> onResponse) {
+        if (maxInFlight < 1) {
+            throw new IllegalArgumentException("maxInFlight must be at least 1, was " + maxInFlight);
+        }
+        Semaphore window = new Semaphore(Math.min(maxInFlight, MAX_WINDOW));
+        AtomicReference<Throwable> failure = new AtomicReference<>();
+        CompletableFuture<Long> result = new CompletableFuture<>();
+        // one for each call in flight, and one held by the submitting thread until it is done
+        AtomicLong pending = new AtomicLong(1);
+        AtomicLong submitted = new AtomicLong();
+        try {
+            while (failure.get() == null && invocations.hasNext()) {
+                ProcedureInvocation invocation = invocations.next();
+                window.acquire();
+                CompletableFuture<ClientResponse> call;
+                try {
+                    call = client.callProcedureAsync(invocation.getProcedure(), invocation.getParameters());
+                } catch (RuntimeException e) {
+                    window.release();
+                    throw e;
+                }
+                long index = submitted.getAndIncrement();
+                pending.incrementAndGet();
+                call.whenComplete((response, error) -> {
+                    if (error != null) {
+                        failure.compareAndSet(null, error);
+                    } else {
+                        onResponse.accept(response, index);
+                    }
+                    window.release();
+                    if (pending.decrementAndGet() == 0) {
+                        complete(result, failure.get(), submitted.get());
+                    }
+                });
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            failure.compareAndSet(null, e);
+        } catch (RuntimeException e) {
+            failure.compareAndSet(null, e);
+        }
+        if (pending.decrementAndGet() == 0) {
+            complete(result, failure.get(), submitted.get());
+        }
+        return result;
+    }
+
+    private static void complete(CompletableFuture<Long> result, Throwable failure, long submitted) {
+        if (failure != null) {
+            result.completeExceptionally(failure);
+        } else {
+            result.complete(submitted);
+        }
+    }
+}
@@ -0,0 +1,85 @@
+/*
+ * Copyright (C) 2025-2026 Volt Active Data Inc.
+ *
+ * Use of this source code is governed by an MIT
+ * license that can be found in the LICENSE file or at
+ * https://opensource.org/licenses/MIT.
+ */
+package org.voltdbtest.testcontainer;
+
+import java.util.List;
+
+/**
+ * Presets that tune a {@link VoltDBContainer} or {@link VoltDBCluster} for a kind of test.
+ * <p>
+ * A profile sets deployment defaults, server JVM options and container settings together.
+ * Settings from {@link VoltDBContainer#withDeployment(DeploymentBuilder)} take precedence over the
+ * profile's deployment defaults, and the command log stays disabled on developer edition images.
+ */
+public enum Profile {
+    /**
+     * Fastest startup and least resource use, for functional tests: sites per host sized to the
+     * available CPUs, no command log, snapshots or metrics, a small heap, a JVM that skips the
+     * optimizing compiler, and voltdbroot on tmpfs so nothing is written to disk.
+     */
+    FAST_TEST(List.of("-XX:TieredStopAtLevel=1"), DataDirectory.tmpfs()) {
+        @Override
+        DeploymentBuilder deployment(int cpusPerNode) {
+            return new DeploymentBuilder()
+                    .withSitesPerHost(Math.max(1, Math.min(PRODUCTION_SITES_PER_HOST, cpusPerNode)))
+                    .withCommandLogEnabled(false)
+                    .withSnapshotsEnabled(false)
+                    .withMetrics(false, "60s")
+                    .withHeapMaxMb(FAST_TEST_HEAP_MB);
+        }
+    },
+    /**
+     * Durability settings as in production, for performance tests: synchronous command log,
+     * periodic snapshots and the production sites per host.
+     */
+    PRODUCTION_LIKE(List.of(), null) {
+        @Override
+        DeploymentBuilder deployment(int cpusPerNode) {
+            return new DeploymentBuilder()
+                    .withSitesPerHost(PRODUCTION_SITES_PER_HOST)
+                    .withCommandLogEnabled(true)
+                    .withCommandLogSynchronous(true)
+                    .withSnapshotsEnabled(true)
+                    .withSnapshots("5m", 2)
+                    .withMetrics(true, "60s");
+        }
+    };
+
+    private static final int PRODUCTION_SITES_PER_HOST = 8;
+    private static final int FAST_TEST_HEAP_MB = 1024;
+
+    private final List<String> jvmOptions;
+    private final DataDirectory dataDirectory;
+
+    Profile(List<String> jvmOptions, DataDirectory dataDirectory) {
+        this.jvmOptions = jvmOptions;
+        this.dataDirectory = dataDirectory;
+    }
+
+    /**
+     * Returns the deployment defaults of this profile.
+     *
+     * @param cpusPerNode CPUs available to each VoltDB node
+     * @return a new builder holding the profile's settings
+     */
+    abstract DeploymentBuilder deployment(int cpusPerNode);
+
+    /**
+     * @return options appended to {@code VOLTDB_OPTS} of the server JVM
+     */
+    List<String> jvmOptions() {
+        return jvmOptions;
+    }
+
+    /**
+     * @return where the profile keeps VoltDB data, or null for the container file system
+     */
+    DataDirectory dataDirectory() {
+        return dataDirectory;
+    }
+}
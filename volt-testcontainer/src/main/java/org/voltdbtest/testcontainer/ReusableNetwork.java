@@ -0,0 +1,67 @@
+/*
+ * Copyright (C) 2025-2026 Volt Active Data Inc.
+ *
+ * Use of this source code is governed by an MIT
+ * license that can be found in the LICENSE file or at
+ * https://opensource.org/licenses/MIT.
+ */
+package org.voltdbtest.testcontainer;
+
+import com.github.dockerjava.api.DockerClient;
+import org.testcontainers.DockerClientFactory;
+import org.testcontainers.containers.Network;
+
+import java.util.List;
+
+/**
+ * A docker network with a fixed name that outlives the JVM that created it.
+ * <p>
+ * {@link Network#newNetwork()} creates a randomly named network that is removed when the JVM
+ * exits, so containers attached to it can never be matched for reuse by a later JVM. This
+ * network is looked up by name first and only created if missing, and {@link #close()} leaves it
+ * in place for the next run.
+ */
+final class ReusableNetwork implements Network {
+
+    private final String name;
+    private String id;
+
+    ReusableNetwork(String name) {
+        this.name = name;
+    }
+
+    String getName() {
+        return name;
+    }
+
+    @Override
+    public synchronized String getId() {
+        if (id == null) {
+            id = findOrCreate();
+        }
+        return id;
+    }
+
+    private String findOrCreate() {
+        DockerClient client = DockerClientFactory.instance().client();
+        List<com.github.dockerjava.api.model.Network> existing = client.listNetworksCmd()
+                .withNameFilter(name)
+                .exec();
+        for (com.github.dockerjava.api.model.Network network : existing) {
+            // the name filter matches substrings
+            if (name.equals(network.getName())) {
+                return network.getId();
+            }
+        }
+        return client.createNetworkCmd()
+                .withName(name)
+                .withCheckDuplicate(true)
+                .exec()
+                .getId();
+    }
+
+    @Override
+    public void close() {
+        // kept for reuse by later runs
+    }
+}
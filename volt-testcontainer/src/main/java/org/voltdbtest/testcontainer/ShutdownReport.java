@@ -0,0 +1,76 @@
+/*
+ * Copyright (C) 2025-2026 Volt Active Data Inc.
+ *
+ * Use of this source code is governed by an MIT
+ * license that can be found in the LICENSE file or at
+ * https://opensource.org/licenses/MIT.
+ */
+package org.voltdbtest.testcontainer;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * Outcome of {@link VoltDBCluster#shutdown(boolean, Duration)}.
+ */
+public final class ShutdownReport {
+
+    private final Duration elapsed;
+    private final Map<String, Duration> nodeElapsed;
+    private final List<String> killedNodes;
+    private final List<String> failedNodes;
+
+    ShutdownReport(Duration elapsed, Map<String, Duration> nodeElapsed, List<String> killedNodes,
+                   List<String> failedNodes) {
+        this.elapsed = elapsed;
+        this.nodeElapsed = new TreeMap<>(nodeElapsed);
+        this.killedNodes = List.copyOf(killedNodes);
+        this.failedNodes = List.copyOf(failedNodes);
+    }
+
+    /**
+     * @return wall-clock time for the whole teardown
+     */
+    public Duration getElapsed() {
+        return elapsed;
+    }
+
+    /**
+     * Returns, for each node that was removed, the time from the start of the shutdown until
+     * its container was gone.
+     *
+     * @return teardown time keyed by host name
+     */
+    public Map<String, Duration> getNodeElapsed() {
+        return nodeElapsed;
+    }
+
+    /**
+     * @return host names of nodes that were killed rather than exiting after {@code @Shutdown}
+     */
+    public List<String> getKilledNodes() {
+        return killedNodes;
+    }
+
+    /**
+     * @return host names of nodes whose containers could not be removed before the deadline
+     */
+    public List<String> getFailedNodes() {
+        return failedNodes;
+    }
+
+    /**
+     * @return true if every node exited on its own after {@code @Shutdown}
+     */
+    public boolean isClean() {
+        return killedNodes.isEmpty() && failedNodes.isEmpty();
+    }
+
+    @Override
+    public String toString() {
+        return String.format("Shut down in %d ms, nodes %s, killed %s, failed %s",
+                elapsed.toMillis(), nodeElapsed, killedNodes, failedNodes);
+    }
+}
@@ -0,0 +1,65 @@
+/*
+ * Copyright (C) 2025-2026 Volt Active Data Inc.
+ *
+ * Use of this source code is governed by an MIT
+ * license that can be found in the LICENSE file or at
+ * https://opensource.org/licenses/MIT.
+ */
+package org.voltdbtest.testcontainer;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.stream.Collectors;
+
+/**
+ * Timings of a {@link VoltDBCluster#start()}, with a {@link NodeStartupReport} for each node.
+ */
+public final class StartupReport {
+
+    private final Duration elapsed;
+    private final Duration imageResolution;
+    private final List<NodeStartupReport> nodes;
+
+    StartupReport(Duration elapsed, Duration imageResolution, List<NodeStartupReport> nodes) {
+        this.elapsed = elapsed;
+        this.imageResolution = imageResolution;
+        this.nodes = List.copyOf(nodes);
+    }
+
+    /**
+     * @return wall-clock time until every node accepted clients
+     */
+    public Duration getElapsed() {
+        return elapsed;
+    }
+
+    /**
+     * @return time spent resolving and pulling images before any node was created
+     */
+    public Duration getImageResolution() {
+        return imageResolution;
+    }
+
+    /**
+     * @return the per-node reports, ordered by host name
+     */
+    public List<NodeStartupReport> getNodes() {
+        return nodes;
+    }
+
+    /**
+     * Renders the report as a JSON object with millisecond durations.
+     *
+     * @return the report as JSON
+     */
+    public String toJson() {
+        return "{\"elapsedMillis\":" + elapsed.toMillis()
+               + ",\"imageResolutionMillis\":" + imageResolution.toMillis()
+               + ",\"nodes\":[" + nodes.stream().map(NodeStartupReport::toJson).collect(Collectors.joining(",")) + "]}";
+    }
+
+    @Override
+    public String toString() {
+        return toJson();
+    }
+}
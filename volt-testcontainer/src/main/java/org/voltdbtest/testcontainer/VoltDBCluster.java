@@ -7,6 +7,9 @@
  */
 package org.voltdbtest.testcontainer;
 
+import com.github.dockerjava.api.DockerClient;
+import com.github.dockerjava.api.exception.NotFoundException;
+import com.github.dockerjava.api.model.ContainerNetwork;
 import org.slf4j.Logger;
 import org.testcontainers.containers.BindMode;
 import org.testcontainers.containers.Network;
@@ -14,28 +17,47 @@ import org.testcontainers.containers.output.OutputFrame;
 import org.testcontainers.containers.output.Slf4jLogConsumer;
 import org.testcontainers.images.builder.Transferable;
 import org.testcontainers.utility.MountableFile;
+import org.voltdb.VoltTable;
 import org.voltdb.client.Client;
 import org.voltdb.client.Client2;
+import org.voltdb.client.Client2Config;
+import org.voltdb.client.ClientFactory;
 import org.voltdb.client.ClientResponse;
 import org.voltdb.client.ProcCallException;
+import org.voltdb.client.VoltBulkLoader.BulkLoaderFailureCallBack;
+import org.voltdb.client.VoltBulkLoader.VoltBulkLoader;
 import org.voltdb.testparser.SQLLoader;
 
 import java.io.File;
 import java.io.IOException;
+import java.io.UncheckedIOException;
 import java.net.URL;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collection;
+import java.util.Collections;
 import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.ExecutionException;
-import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Future;
 import java.util.concurrent.LinkedBlockingQueue;
 import java.util.concurrent.ThreadPoolExecutor;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
 import java.util.function.Consumer;
 import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 /**
  * Represents a cluster of VoltDB instances.
@@ -45,7 +67,55 @@ import java.util.stream.Collectors;
  */
 public class VoltDBCluster {
 
-    private final ExecutorService executorService = getSingleThreadExecutor("VoltDB Starter");
+    // Rows per partition batch used by bulkLoad, matching the csvloader default.
+    private static final int DEFAULT_BULK_BATCH_SIZE = 200;
+
+    // Rejected rows described individually in a BulkLoadReport.
+    private static final int MAX_REPORTED_FAILURES = 100;
+
+    // Label carrying the configuration hash of a reusable cluster.
+    private static final String CLUSTER_HASH_LABEL = "org.voltdbtest.cluster.hash";
+
+    // Directory inside each container that holds fixture snapshots.
+    private static final String FIXTURE_DIR = "/tmp/voltdb-fixtures";
+
+    // Interval between polls of rebalance progress.
+    private static final long REBALANCE_POLL_MILLIS = 500;
+
+    // How long to look for a rebalance to appear before assuming it finished unseen.
+    private static final long REBALANCE_SETTLE_MILLIS = 5000;
+
+    // Interval between availability probes after a node fault.
+    private static final long FAULT_POLL_MILLIS = 50;
+
+    // Deadline for failure detection and client recovery after a node fault.
+    private static final long FAULT_TIMEOUT_MILLIS = 120000;
+
+    // Deadline for shaping the links of every node when a link profile is set.
+    private static final long LINK_PROFILE_TIMEOUT_MILLIS = 60000;
+
+    // One thread per node, so that starts and stops of every node run at once; grown by addNodes.
+    private final ThreadPoolExecutor executorService;
+
+    // Long-lived client shared by callProcedure, runDDL and loadClasses; closed on shutdown.
+    private Client2 sharedClient;
+
+    // Reattach to a matching running cluster across JVMs and leave it running on shutdown.
+    private boolean reuse;
+
+    // Network the second side of a partition is moved to, null while the network is whole.
+    private Network partitionNetwork;
+    private Network partitionedFrom;
+    private Set<String> partitionedHosts = Set.of();
+    // Conditions imposed on inter-node and client links, null when unshaped.
+    private LinkProfile linkProfile;
+    private LinkProfile clientLinkProfile;
+    // Client proxies by host name, present while a client link profile is set.
+    private final Map<String, LatencyProxy> clientProxies = new HashMap<>();
+
+    // set by startAsync(); methods that need running nodes wait on it
+    private volatile CompletableFuture<VoltDBCluster> pendingStart;
+    private volatile Thread startThread;
 
     /**
      * A container class that holds VoltDB containers in a map.
@@ -173,6 +243,7 @@ public class VoltDBCluster {
         this.licensePath = licensePath;
         this.hostCount = hostCount;
         this.kfactor = kfactor;
+        this.executorService = getStarterExecutor("VoltDB Starter", hostCount);
         String startCommand = getStartCommand(hostCount);
         for (int i = 0; i < hostCount; i++) {
             String host = String.format("%s-%d", "host", i);
@@ -183,40 +254,244 @@ public class VoltDBCluster {
         }
     }
 
-    private static ExecutorService getSingleThreadExecutor(String name) {
-        return new ThreadPoolExecutor(1, 1, 0L, TimeUnit.MILLISECONDS, new LinkedBlockingQueue());
+    private static ThreadPoolExecutor getStarterExecutor(String name, int threads) {
+        AtomicInteger threadNumber = new AtomicInteger();
+        ThreadPoolExecutor executor = new ThreadPoolExecutor(Math.max(1, threads), Math.max(1, threads),
+                30L, TimeUnit.SECONDS, new LinkedBlockingQueue<>(), runnable -> {
+            Thread thread = new Thread(runnable, name + "-" + threadNumber.getAndIncrement());
+            thread.setDaemon(true);
+            return thread;
+        });
+        executor.allowCoreThreadTimeOut(true);
+        return executor;
+    }
+
+    /**
+     * Grows the starter pool to one thread per node, so that no start or stop waits in its queue.
+     *
+     * @param threads the number of nodes in the cluster
+     */
+    private void growStarterExecutor(int threads) {
+        if (threads > executorService.getMaximumPoolSize()) {
+            executorService.setMaximumPoolSize(threads);
+            executorService.setCorePoolSize(threads);
+        }
     }
 
     /**
      * Starts the VoltDB cluster by starting each VoltDB container in the cluster.
      *
+     * @return phase timings of the startup
      * @throws java.io.IOException        if an I/O error occurs while starting the VoltDB containers
      * @throws java.lang.RuntimeException if an error occurs during the starting process
      */
-    public void start() throws IOException {
-        start(120000);
+    public StartupReport start() throws IOException {
+        return start(120000);
     }
 
     /**
      * Starts the VoltDB containers and waits for them to be ready.
+     * <p>
+     * All nodes are started concurrently: images are resolved first, then every container is
+     * created, has its files copied in and is started on its own thread. Nodes wait for each
+     * other at the mesh join anyway, so the cluster comes up in roughly the time of the slowest node.
+     *
+     * The returned report times the shared image resolution and, for each node, the docker phases
+     * of its startup, plus the VoltDB phases with {@link #withStartupReport(boolean)}, so slow
+     * steps can be found without reading container logs.
      *
-     * @param timeoutMillis the amount of time in milliseconds to wait for each container to start
-     * @throws IOException if an I/O error occurs during startup
+     * @param timeoutMillis overall deadline in milliseconds for the whole cluster to start and accept clients
+     * @return phase timings of the startup
+     * @throws IOException if an I/O error occurs during startup or the deadline is exceeded
      */
-    public void start(int timeoutMillis) throws IOException {
-        List<Future> starters = new ArrayList<>();
+    public StartupReport start(int timeoutMillis) throws IOException {
+        long startNanos = System.nanoTime();
+        long deadline = System.currentTimeMillis() + timeoutMillis;
+        if (reuse) {
+            prepareForReuse();
+        }
+
+        // Pull each distinct image once up front so nodes don't race on the same pull.
+        Map<String, VoltDBContainer> distinctImages = new HashMap<>();
+        for (Map.Entry<String, VoltDBContainer> entry : containers.entrySet()) {
+            distinctImages.putIfAbsent(images.get(entry.getKey()), entry.getValue());
+        }
+        List<Future<?>> resolvers = new ArrayList<>();
+        for (VoltDBContainer voltDBContainer : distinctImages.values()) {
+            resolvers.add(executorService.submit(voltDBContainer::getDockerImageName));
+        }
+        awaitAll(resolvers, deadline, "resolve VoltDB images");
+        Duration imageResolution = Duration.ofNanos(System.nanoTime() - startNanos);
+
+        List<Future<?>> starters = new ArrayList<>();
         for (VoltDBContainer voltDBContainer : containers()) {
             starters.add(executorService.submit(voltDBContainer::start));
         }
-        for (Future voltDB : starters) {
+        awaitAll(starters, deadline, "start VoltDB containers");
+        if (linkProfile != null) {
+            applyLinkProfile(deadline);
+        }
+
+        List<Future<?>> connectors = new ArrayList<>();
+        for (VoltDBContainer voltDBContainer : containers()) {
+            connectors.add(executorService.submit(() -> {
+                voltDBContainer.getConnectedClient(remainingMillis(deadline));
+                return null;
+            }));
+        }
+        awaitAll(connectors, deadline, "connect to VoltDB containers");
+
+        if (isReused()) {
+            try {
+                truncateTables();
+            } catch (ProcCallException e) {
+                throw new IOException("Could not reset reused VoltDB cluster", e);
+            }
+        }
+
+        List<NodeStartupReport> nodes = containers.entrySet().stream()
+                .sorted(Map.Entry.comparingByKey())
+                .map(entry -> entry.getValue().getStartupReport())
+                .collect(Collectors.toList());
+        return new StartupReport(Duration.ofNanos(System.nanoTime() - startNanos), imageResolution, nodes);
+    }
+
+    /**
+     * Starts the VoltDB cluster in the background, with the default deadline of 120 seconds.
+     *
+     * @return a future completed with this cluster once it accepts clients
+     * @see #startAsync(int)
+     */
+    public CompletableFuture<VoltDBCluster> startAsync() {
+        return startAsync(120000);
+    }
+
+    /**
+     * Starts the VoltDB cluster in the background so that booting the nodes overlaps other test
+     * setup, such as building fixtures or starting further containers.
+     * <p>
+     * The start runs {@link #start(int)} on its own thread and the call returns straight away.
+     * Work that needs the cluster can be chained on the returned future, for example
+     * {@code cluster.startAsync().thenApply(c -> ...)}. Methods that talk to the nodes, such as
+     * {@link #runDDL(String)}, {@link #loadClasses(String)}, {@link #getSharedClient()} and
+     * {@link #getClient()}, wait for a pending start on their own and rethrow its failure, so
+     * they can also simply be called once the other setup is done.
+     *
+     * @param timeoutMillis overall deadline in milliseconds for the whole cluster to start and accept clients
+     * @return a future completed with this cluster once it accepts clients, or exceptionally if
+     * the start fails
+     * @throws IllegalStateException if a start is already in progress
+     */
+    public synchronized CompletableFuture<VoltDBCluster> startAsync(int timeoutMillis) {
+        if (pendingStart != null && !pendingStart.isDone()) {
+            throw new IllegalStateException("The VoltDB cluster is already starting");
+        }
+        CompletableFuture<VoltDBCluster> future = new CompletableFuture<>();
+        Thread thread = new Thread(() -> {
             try {
-                voltDB.get();
-            } catch (InterruptedException | ExecutionException e) {
-                throw new RuntimeException(e);
+                start(timeoutMillis);
+                future.complete(this);
+            } catch (Throwable t) {
+                future.completeExceptionally(t);
             }
+        }, "VoltDB cluster starter");
+        thread.setDaemon(true);
+        startThread = thread;
+        pendingStart = future;
+        thread.start();
+        return future;
+    }
+
+    /**
+     * Waits for a start begun by {@link #startAsync(int)}, if any. The starting thread itself
+     * never waits, as it resets reused clusters through the shared client.
+     */
+    private void awaitStart() throws IOException {
+        CompletableFuture<VoltDBCluster> future = pendingStart;
+        if (future == null || Thread.currentThread() == startThread) {
+            return;
+        }
+        try {
+            future.get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IOException("Interrupted waiting for the VoltDB cluster to start", e);
+        } catch (ExecutionException e) {
+            Throwable cause = e.getCause();
+            if (cause instanceof IOException) {
+                throw (IOException) cause;
+            }
+            throw new IOException("The VoltDB cluster failed to start", cause);
+        }
+    }
+
+    private void awaitStartUnchecked() {
+        try {
+            awaitStart();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
         }
+    }
+
+    /**
+     * Returns whether {@link #start()} reattached to an already running cluster rather than
+     * starting new nodes. A reused cluster keeps its schema and classes, and has its user tables
+     * truncated on attach, so tests can skip loading schema when this is true.
+     *
+     * @return true if every node was reused
+     */
+    public boolean isReused() {
+        return reuse && containers().stream().allMatch(VoltDBContainer::isReused);
+    }
+
+    /**
+     * Attaches every node to a network named after the cluster configuration and labels it with the
+     * configuration hash, so a later JVM with the same configuration builds identical containers
+     * and testcontainers finds the running ones.
+     */
+    private void prepareForReuse() {
+        String hash = configurationHash();
+        Network network = new ReusableNetwork("voltdb-cluster-" + hash.substring(0, 16));
         for (VoltDBContainer voltDBContainer : containers()) {
-            voltDBContainer.getConnectedClient(timeoutMillis);
+            if (voltDBContainer.getNetwork() == null) {
+                voltDBContainer.setNetwork(network);
+                voltDBContainer.setNetworkMode(network.getId());
+            }
+            voltDBContainer.withLabel(CLUSTER_HASH_LABEL, hash);
+            voltDBContainer.withReuse(true);
+        }
+    }
+
+    private String configurationHash() {
+        String nodes = containers.keySet().stream()
+                .sorted()
+                .map(host -> containers.get(host).configurationFingerprint())
+                .collect(Collectors.joining("\n"));
+        return InitCache.key(hostCount + "/" + kfactor, List.of(Map.entry("nodes", Transferable.of(nodes))));
+    }
+
+    private static int remainingMillis(long deadline) {
+        return (int) Math.max(0, deadline - System.currentTimeMillis());
+    }
+
+    private static void awaitAll(List<Future<?>> futures, long deadline, String what) throws IOException {
+        try {
+            for (Future<?> future : futures) {
+                future.get(remainingMillis(deadline), TimeUnit.MILLISECONDS);
+            }
+        } catch (TimeoutException e) {
+            futures.forEach(f -> f.cancel(true));
+            throw new IOException("Timed out waiting to " + what, e);
+        } catch (InterruptedException e) {
+            futures.forEach(f -> f.cancel(true));
+            Thread.currentThread().interrupt();
+            throw new IOException("Interrupted while waiting to " + what, e);
+        } catch (ExecutionException e) {
+            futures.forEach(f -> f.cancel(true));
+            if (e.getCause() instanceof IOException) {
+                throw (IOException) e.getCause();
+            }
+            throw new RuntimeException(e.getCause());
         }
     }
 
@@ -246,16 +521,41 @@ public class VoltDBCluster {
 
     /**
      * Executes the given DDL file on the VoltDB cluster.
+     * <p>
+     * Each run of consecutive DDL statements is sent as one {@code @AdHoc} batch, so a schema
+     * costs one catalog update per run rather than one per statement. Other statements, such as
+     * inserts, end a run and are executed on their own. Errors report the line in the file.
      *
      * @param ddl the DDL file to execute
      * @return true if the DDL execution is successful, false otherwise
      * @throws java.io.IOException                 if an I/O error occurs while reading the DDL file
      * @throws org.voltdb.client.ProcCallException if an error occurs during the DDL execution process
+     * @see #runDDL(File, boolean)
      */
     public boolean runDDL(File ddl) throws IOException, ProcCallException {
-        String[] args = {"--file=" + ddl.getAbsolutePath()};
-        Client client = getClient();
-        SQLLoader sqlcmd = new SQLLoader(client);
+        return runDDL(ddl, false);
+    }
+
+    /**
+     * Executes the given DDL file on the VoltDB cluster, optionally pipelining its DML.
+     * <p>
+     * When pipelined, consecutive DML statements are sent without waiting for each response, up
+     * to 500 at a time, so seed data loads at cluster throughput rather than one statement per
+     * round trip. DDL, queries and {@code file} directives wait for the pipelined statements to
+     * complete, so statements between those barriers may be applied in any order. Otherwise
+     * every statement completes before the next is sent, as with {@link #runDDL(File)}.
+     *
+     * @param ddl       the DDL file to execute
+     * @param pipelined true to pipeline consecutive DML statements
+     * @return true if the DDL execution is successful, false otherwise
+     * @throws java.io.IOException                 if an I/O error occurs while reading the DDL file
+     * @throws org.voltdb.client.ProcCallException if an error occurs during the DDL execution process
+     */
+    public boolean runDDL(File ddl, boolean pipelined) throws IOException, ProcCallException {
+        String[] args = pipelined
+                ? new String[]{"--file=" + ddl.getAbsolutePath(), "--auto-batch", "--pipeline"}
+                : new String[]{"--file=" + ddl.getAbsolutePath(), "--auto-batch"};
+        SQLLoader sqlcmd = new SQLLoader(getSharedClient());
         int exitCode = sqlcmd.execute(args);
         return exitCode == 0;
     }
@@ -269,12 +569,7 @@ public class VoltDBCluster {
      * @throws org.voltdb.client.ProcCallException if an error occurs during the DDL execution process
      */
     public ClientResponse runDDL(String schema) throws IOException, ProcCallException {
-        for (VoltDBContainer voltDBContainer : containers()) {
-            if (voltDBContainer.isRunning()) {
-                return voltDBContainer.runDDL(schema);
-            }
-        }
-        throw new RuntimeException("No running VoltDB containers found");
+        return getSharedClient().callProcedureSync("@AdHoc", schema);
     }
 
     /**
@@ -286,12 +581,7 @@ public class VoltDBCluster {
      * @throws org.voltdb.client.ProcCallException if an error occurs during the class loading process
      */
     public ClientResponse loadClasses(String jar) throws IOException, ProcCallException {
-        for (VoltDBContainer voltDBContainer : containers()) {
-            if (voltDBContainer.isRunning()) {
-                return voltDBContainer.loadClasses(jar);
-            }
-        }
-        return null;
+        return loadClasses(jar, null);
     }
 
     /**
@@ -304,12 +594,8 @@ public class VoltDBCluster {
      * @throws org.voltdb.client.ProcCallException if an error occurs during the class loading process
      */
     public ClientResponse loadClasses(String jar, String classesToDelete) throws IOException, ProcCallException {
-        for (VoltDBContainer voltDBContainer : containers()) {
-            if (voltDBContainer.isRunning()) {
-                return voltDBContainer.loadClasses(jar, classesToDelete);
-            }
-        }
-        return null;
+        byte[] jarBytes = Files.readAllBytes(Path.of(jar));
+        return getSharedClient().callProcedureSync("@UpdateClasses", jarBytes, classesToDelete);
     }
 
     /**
@@ -322,185 +608,1236 @@ public class VoltDBCluster {
      * @throws org.voltdb.client.ProcCallException if an error occurs during the procedure call process
      */
     public ClientResponse callProcedure(String proc, Object... params) throws IOException, ProcCallException {
-        Client client = getClient();
-        return client.callProcedure(proc, params);
+        return getSharedClient().callProcedureSync(proc, params);
     }
 
     /**
-     * <p>getFirstMappedPort.</p>
+     * Calls a stored procedure asynchronously through the shared client.
      *
-     * @return a int
+     * @param proc   the name of the stored procedure to call
+     * @param params the parameters to pass to the stored procedure
+     * @return a future completed with the procedure response, or exceptionally if the call fails
      */
-    public int getFirstMappedPort() {
-        return containers().stream().findFirst().get().getFirstMappedPort();
+    public CompletableFuture<ClientResponse> callProcedureAsync(String proc, Object... params) {
+        try {
+            return getSharedClient().callProcedureAsync(proc, params);
+        } catch (IOException e) {
+            return CompletableFuture.failedFuture(e);
+        }
     }
 
     /**
-     * <p>getMappedPort.</p>
+     * Calls each of the given procedures asynchronously, keeping up to 500 calls in flight.
      *
-     * @param port a int
-     * @return a int
+     * @param invocations the procedure calls to make
+     * @return a future completed with the responses in invocation order
+     * @see #callProceduresAsync(Iterator, int)
      */
-    public int getMappedPort(int port) {
-        return containers().stream().findFirst().get().getMappedPort(port);
+    public CompletableFuture<List<ClientResponse>> callProceduresAsync(List<ProcedureInvocation> invocations) {
+        return callProceduresAsync(invocations.iterator(), ProcedurePipeline.DEFAULT_WINDOW);
     }
 
     /**
-     * <p>getHost.</p>
+     * Calls each of the given procedures asynchronously, keeping a bounded number of calls in flight.
      *
-     * @return a {@link java.lang.String} object
+     * @param invocations the procedure calls to make, consumed lazily
+     * @param maxInFlight the maximum number of calls outstanding at any time
+     * @return a future completed with the responses in invocation order
+     * @see #callProceduresAsync(Iterator, int)
      */
-    public String getHost() {
-        return containers().stream().findFirst().get().getHost();
+    public CompletableFuture<List<ClientResponse>> callProceduresAsync(Stream<ProcedureInvocation> invocations,
+                                                                       int maxInFlight) {
+        return callProceduresAsync(invocations.iterator(), maxInFlight);
     }
 
     /**
-     * <p>getHostAndPort.</p>
+     * Calls each of the given procedures asynchronously through the shared client, keeping a bounded
+     * number of calls in flight.
+     * <p>
+     * The calling thread submits the invocations in order and blocks whenever {@code maxInFlight}
+     * calls are outstanding, so a single test thread can drive the cluster at full rate without
+     * queuing an unbounded number of requests. Submission stops at the first failed call.
      *
-     * @return a {@link java.lang.String} object
+     * @param invocations the procedure calls to make, consumed lazily
+     * @param maxInFlight the maximum number of calls outstanding at any time, capped at 1000
+     * @return a future completed with the responses in invocation order once all calls complete,
+     * or exceptionally with the first failure
+     * @throws IllegalArgumentException if {@code maxInFlight} is less than 1
      */
-    public String getHostAndPort() {
-        return String.format("%s:%d", getHost(), getMappedPort(21211));
+    public CompletableFuture<List<ClientResponse>> callProceduresAsync(Iterator<ProcedureInvocation> invocations,
+                                                                       int maxInFlight) {
+        try {
+            return ProcedurePipeline.submit(getSharedClient(), invocations, maxInFlight);
+        } catch (IOException e) {
+            return CompletableFuture.failedFuture(e);
+        }
     }
 
     /**
-     * Retrieves a VoltDB client from the cluster instance.
+     * Calls each of the given procedures asynchronously through the shared client, keeping a bounded
+     * number of calls in flight, and hands each response to {@code onResponse} instead of keeping it.
+     * Use this form for long or unbounded sequences of calls.
      *
-     * @return The VoltDB client associated with the running instance, or null if no running instance is found.
-     * @throws java.io.IOException if an I/O error occurs while retrieving the client.
+     * @param invocations the procedure calls to make, consumed lazily
+     * @param maxInFlight the maximum number of calls outstanding at any time, capped at 1000
+     * @param onResponse  called with each successful response, on a client thread
+     * @return a future completed with the number of calls made once all calls complete,
+     * or exceptionally with the first failure
+     * @throws IllegalArgumentException if {@code maxInFlight} is less than 1
+     * @see #callProceduresAsync(Iterator, int)
      */
-    public Client getClient() throws IOException {
-        for (VoltDBContainer voltDBContainer : containers()) {
-            if (voltDBContainer.isRunning()) {
-                return voltDBContainer.getConnectedClient();
-            }
+    public CompletableFuture<Long> callProceduresAsync(Iterator<ProcedureInvocation> invocations, int maxInFlight,
+                                                       Consumer<ClientResponse> onResponse) {
+        try {
+            return ProcedurePipeline.submit(getSharedClient(), invocations, maxInFlight, onResponse);
+        } catch (IOException e) {
+            return CompletableFuture.failedFuture(e);
         }
-        return null;
     }
 
     /**
-     * Retrieves a VoltDB client from the cluster instance with the specified host ID.
+     * Loads rows into a table using the VoltDB bulk loader, inserting with the default batch size.
      *
-     * @param host The host ID of the cluster instance from which to retrieve the client.
-     * @return The VoltDB client associated with the specified host, or null if no running instance is found.
-     * @throws java.io.IOException if an I/O error occurs while retrieving the client.
+     * @param table the name of the table to load
+     * @param rows  the rows to insert, one value per column in table order
+     * @return a report of the load
+     * @throws java.io.IOException if the loader cannot be created or the load is interrupted
+     * @see #bulkLoad(String, Iterator, int, boolean)
      */
-    public Client getClient(String host) throws IOException {
-        for (VoltDBContainer voltDBContainer : containers()) {
-            if (voltDBContainer.isRunning() && voltDBContainer.getHostId().equals(host)) {
-                return voltDBContainer.getConnectedClient();
+    public BulkLoadReport bulkLoad(String table, Stream<Object[]> rows) throws IOException {
+        return bulkLoad(table, rows.iterator(), DEFAULT_BULK_BATCH_SIZE, false);
+    }
+
+    /**
+     * Loads rows into a table using the VoltDB bulk loader, inserting with the default batch size.
+     *
+     * @param table the name of the table to load
+     * @param rows  the rows to insert, one value per column in table order
+     * @return a report of the load
+     * @throws java.io.IOException if the loader cannot be created or the load is interrupted
+     * @see #bulkLoad(String, Iterator, int, boolean)
+     */
+    public BulkLoadReport bulkLoad(String table, Iterator<Object[]> rows) throws IOException {
+        return bulkLoad(table, rows, DEFAULT_BULK_BATCH_SIZE, false);
+    }
+
+    /**
+     * Loads rows into a table using the VoltDB bulk loader.
+     * <p>
+     * The loader groups rows by the partition of the table's partition column and sends each
+     * group as one batched insert to the partition leader, over a client connected to every
+     * running node. Replicated tables are loaded in batches through the multi-partition path.
+     * Rows the server rejects do not stop the load; they are counted in the report.
+     *
+     * @param table     the name of the table to load
+     * @param rows      the rows to insert, one value per column in table order
+     * @param batchSize the maximum number of rows sent to a partition in one call
+     * @param upsert    true to upsert rows instead of inserting them
+     * @return a report of the load
+     * @throws java.io.IOException if the loader cannot be created or the load is interrupted
+     */
+    public BulkLoadReport bulkLoad(String table, Iterator<Object[]> rows, int batchSize, boolean upsert)
+            throws IOException {
+        AtomicLong failed = new AtomicLong();
+        List<String> failures = Collections.synchronizedList(new ArrayList<>());
+        BulkLoaderFailureCallBack onFailure = (rowNumber, row, response) -> {
+            failed.incrementAndGet();
+            if (failures.size() < MAX_REPORTED_FAILURES) {
+                failures.add("row " + rowNumber + " " + Arrays.toString(row) + ": " + response.getStatusString());
+            }
+        };
+
+        Client client = connectBulkClient();
+        long submitted = 0;
+        long start = System.nanoTime();
+        try {
+            VoltBulkLoader loader = client.getNewBulkLoader(table, batchSize, upsert, onFailure);
+            try {
+                while (rows.hasNext()) {
+                    loader.insertRow(submitted++, rows.next());
+                }
+                loader.drain();
+            } finally {
+                loader.close();
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IOException("Interrupted while bulk loading " + table, e);
+        } catch (IOException e) {
+            throw e;
+        } catch (Exception e) {
+            throw new IOException("Failed to bulk load " + table, e);
+        } finally {
+            try {
+                client.close();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
             }
         }
-        return null;
+        Duration elapsed = Duration.ofNanos(System.nanoTime() - start);
+        return new BulkLoadReport(table, submitted, failed.get(), elapsed, failures);
+    }
+
+    private Client connectBulkClient() throws IOException {
+        awaitStart();
+        List<VoltDBContainer> running = containers().stream()
+                .filter(VoltDBContainer::isRunning)
+                .collect(Collectors.toList());
+        if (running.isEmpty()) {
+            throw new IOException("No running VoltDB containers found");
+        }
+        Client client = ClientFactory.createClient(running.get(0).newClientConfig());
+        try {
+            for (VoltDBContainer voltDBContainer : running) {
+                client.createConnection("localhost:" + voltDBContainer.getMappedPort(VoltDBContainer.VOLTDB_CLIENT_PORT));
+            }
+        } catch (IOException e) {
+            try {
+                client.close();
+            } catch (InterruptedException ie) {
+                Thread.currentThread().interrupt();
+            }
+            throw e;
+        }
+        return client;
     }
 
     /**
-     * Retrieves a VoltDB Client2 from the cluster instance.
+     * Saves the current contents of every table as a named fixture that can later be restored
+     * with {@link #restoreFixture(String)}.
+     * <p>
+     * The fixture is a blocking VoltDB snapshot written inside each container, so saving and
+     * restoring never copies data through the host. A fixture with the same name is replaced.
+     * Fixtures hold data only; the schema must be the same when the fixture is restored.
      *
-     * @return The VoltDB Client2 associated with the running instance, or null if no running instance is found.
-     * @throws java.io.IOException if an I/O error occurs while retrieving the client.
+     * @param name the fixture name, made of letters, digits and underscores
+     * @throws java.io.IOException                 if the snapshot cannot be written
+     * @throws org.voltdb.client.ProcCallException if a snapshot procedure fails
+     * @throws IllegalArgumentException            if the name is not a valid snapshot nonce
      */
-    public Client2 getClient2() throws IOException {
+    public void saveFixture(String name) throws IOException, ProcCallException {
+        checkFixtureName(name);
+        // every node needs the directory, including those a pending startAsync has yet to bring up
+        awaitStart();
         for (VoltDBContainer voltDBContainer : containers()) {
             if (voltDBContainer.isRunning()) {
-                return voltDBContainer.getConnectedClient2();
+                execInContainer(voltDBContainer, "mkdir", "-p", FIXTURE_DIR);
             }
         }
-        return null;
+        Client2 client = getSharedClient();
+        client.callProcedureSync("@SnapshotDelete", new String[]{FIXTURE_DIR}, new String[]{name});
+        checkSnapshotResult("save fixture " + name,
+                client.callProcedureSync("@SnapshotSave", FIXTURE_DIR, name, 1));
     }
 
     /**
-     * Retrieves a VoltDB Client2 from the cluster instance with the specified host ID.
+     * Restores the table contents saved by {@link #saveFixture(String)}.
+     * <p>
+     * Every user table is truncated first, in a single transaction, and the snapshot is then
+     * loaded back in place. This is typically much faster than re-running DDL and seeding data.
      *
-     * @param host The host ID of the cluster instance from which to retrieve the client.
-     * @return The VoltDB Client2 associated with the specified host, or null if no running instance is found.
-     * @throws java.io.IOException if an I/O error occurs while retrieving the client.
+     * @param name the name the fixture was saved under
+     * @throws java.io.IOException                 if the snapshot cannot be read
+     * @throws org.voltdb.client.ProcCallException if truncating or restoring fails
+     * @throws IllegalArgumentException            if the name is not a valid snapshot nonce
      */
-    public Client2 getClient2(String host) throws IOException {
-        for (VoltDBContainer voltDBContainer : containers()) {
-            if (voltDBContainer.isRunning() && voltDBContainer.getHostId().equals(host)) {
-                return voltDBContainer.getConnectedClient2();
+    public void restoreFixture(String name) throws IOException, ProcCallException {
+        checkFixtureName(name);
+        truncateTables();
+        checkSnapshotResult("restore fixture " + name,
+                getSharedClient().callProcedureSync("@SnapshotRestore", FIXTURE_DIR, name));
+    }
+
+    /**
+     * Deletes every row from every user table in one {@code @AdHoc} batch.
+     *
+     * @throws java.io.IOException                 if the shared client cannot connect
+     * @throws org.voltdb.client.ProcCallException if a truncate fails
+     */
+    void truncateTables() throws IOException, ProcCallException {
+        Client2 client = getSharedClient();
+        VoltTable tables = client.callProcedureSync("@SystemCatalog", "TABLES").getResults()[0];
+        StringBuilder truncates = new StringBuilder();
+        while (tables.advanceRow()) {
+            if ("TABLE".equals(tables.getString("TABLE_TYPE"))) {
+                truncates.append("TRUNCATE TABLE ").append(tables.getString("TABLE_NAME")).append(";\n");
             }
         }
-        return null;
+        if (truncates.length() > 0) {
+            client.callProcedureSync("@AdHoc", truncates.toString());
+        }
     }
 
-    private static String userHome() {
-        String home = System.getProperty("user.home");
-        if (home == null || home.isEmpty() || home.equals("?")) {
-            home = System.getenv("HOME");
-            if (home == null || home.isEmpty()) {
-                home = "/etc";
-            }
+    private static void checkFixtureName(String name) {
+        if (name == null || !name.matches("[A-Za-z0-9_]+")) {
+            throw new IllegalArgumentException("Fixture name must be letters, digits or underscores: " + name);
         }
-        return home;
     }
 
-    private static String[] getHostList(int hostcount) {
-        List<String> hosts = new ArrayList<>();
-        for (int i = 0; i < hostcount; i++) {
-            hosts.add("host-" + i);
+    private static void checkSnapshotResult(String what, ClientResponse response) throws IOException {
+        VoltTable results = response.getResults()[0];
+        while (results.advanceRow()) {
+            if ("FAILURE".equals(results.getString("RESULT"))) {
+                throw new IOException("Failed to " + what + ": " + results.getString("ERR_MSG"));
+            }
         }
-        return hosts.toArray(new String[0]);
     }
 
-    // Used by our extension which does add (elastic) tests
+    private static void execInContainer(VoltDBContainer voltDBContainer, String... command) throws IOException {
+        try {
+            voltDBContainer.execInContainer(command);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IOException("Interrupted running " + String.join(" ", command), e);
+        }
+    }
 
     /**
-     * <p>getJoinCommand.</p>
+     * Returns the cluster's shared {@link Client2}, connecting it on first use.
+     * <p>
+     * The client holds one connection to the mapped client port of every running node and is
+     * reused by {@link #callProcedure}, {@link #runDDL} and {@link #loadClasses}. Client affinity
+     * routes single-partition calls straight to the partition leader. The client is owned by the
+     * cluster and closed by {@link #shutdown()}; callers must not close it.
      *
-     * @return a {@link java.lang.String} object
+     * @return the shared, connected client
+     * @throws java.io.IOException if no node is running or a connection cannot be opened
      */
-    protected String getJoinCommand() {
-        String startAction = "--ignore=thp --count=" + (hostCount + kfactor + 1) + " --host=" +
-                             containers.keySet().stream().findFirst().get() + " --add";
-        return startAction;
+    public Client2 getSharedClient() throws IOException {
+        // wait outside the lock: the starting thread may need the shared client itself
+        awaitStart();
+        return sharedClient();
     }
 
-    /**
-     * <p>getStartCommand.</p>
-     *
-     * @param hostcount a int
-     * @return a {@link java.lang.String} object
-     */
-    public static String getStartCommand(int hostcount) {
-        return "--ignore=thp --count=" + hostcount + " --host=" + String.join(",", getHostList(hostcount));
+    private synchronized Client2 sharedClient() throws IOException {
+        if (sharedClient == null) {
+            sharedClient = connectSharedClient();
+        }
+        return sharedClient;
     }
 
-    // Used by our extension which does stop and require access to container for many other purposes.
+    private Client2 connectSharedClient() throws IOException {
+        List<VoltDBContainer> running = containers().stream()
+                .filter(VoltDBContainer::isRunning)
+                .collect(Collectors.toList());
+        if (running.isEmpty()) {
+            throw new IOException("No running VoltDB containers found");
+        }
+        // Nodes are only reachable through their mapped ports, so the client must not chase the
+        // internal addresses VoltDB advertises; we connect to every node explicitly instead.
+        Client2Config config = running.get(0).newClient2Config().disableConnectionMgmt();
+        Client2 client = ClientFactory.createClient(config);
+        try {
+            for (VoltDBContainer voltDBContainer : running) {
+                client.connectSync(getClientAddress(voltDBContainer.getHostId()));
+            }
+        } catch (IOException e) {
+            client.close();
+            throw e;
+        }
+        return client;
+    }
 
     /**
-     * <p>getContainer.</p>
+     * Returns the address clients on this machine use to reach a node. With a client link profile
+     * this is a local proxy that imposes the profile; otherwise it is the node's mapped client port.
      *
-     * @param container a {@link java.lang.String} object
-     * @return a {@link org.voltdbtest.testcontainer.VoltDBContainer} object
+     * @param hostId the host name of the node, such as {@code host-0}
+     * @return the address in {@code host:port} form
+     * @throws IOException if the proxy cannot be started
+     * @throws IllegalArgumentException if there is no node with that host name
      */
-    protected VoltDBContainer getContainer(String container) {
-        return containers.get(container);
+    public synchronized String getClientAddress(String hostId) throws IOException {
+        VoltDBContainer voltDBContainer = containers.get(hostId);
+        if (voltDBContainer == null) {
+            throw new IllegalArgumentException("Unknown node: " + hostId);
+        }
+        int port = voltDBContainer.getMappedPort(VoltDBContainer.VOLTDB_CLIENT_PORT);
+        if (clientLinkProfile == null) {
+            return "localhost:" + port;
+        }
+        LatencyProxy proxy = clientProxies.get(hostId);
+        if (proxy == null) {
+            proxy = new LatencyProxy("localhost", port, clientLinkProfile);
+            clientProxies.put(hostId, proxy);
+        }
+        return "localhost:" + proxy.getPort();
     }
 
     /**
-     * Get created {@link VoltDBContainer}s IDs
+     * Imposes latency, jitter, a bandwidth cap and packet loss on the links between nodes,
+     * using {@code tc netem} in each node's network namespace. Only inter-node traffic is shaped;
+     * see {@link #withClientLinkProfile(LinkProfile)} for the client links. The delay is added to
+     * packets leaving every node, so the round trip between two nodes grows by twice the latency.
+     * <p>
+     * The profile is applied once the nodes have started, or immediately to a running cluster, and
+     * again to nodes that are added, rejoined, or moved by {@link #partitionNetwork(Set, Set)} and
+     * {@link #heal()}, since their containers or network interfaces are new.
+     * The shaping runs from a short-lived sidecar container with {@code NET_ADMIN}, so the docker
+     * host must allow that capability.
      *
-     * @return list of Docker containers IDs
+     * @param latency       one-way delay added to every inter-node packet
+     * @param jitter        random variation of the delay
+     * @param bandwidthKbps bandwidth cap in kilobits per second, 0 for no cap
+     * @param lossPercent   percentage of packets dropped, 0 for none
+     * @return the updated VoltDBCluster object
      */
-    public List<String> getContainerIds() {
-        return containers.values().stream().map(VoltDBContainer::getContainerId).collect(Collectors.toList());
+    public VoltDBCluster withLinkProfile(Duration latency, Duration jitter, long bandwidthKbps, double lossPercent) {
+        return withLinkProfile(LinkProfile.of(latency, jitter, bandwidthKbps, lossPercent));
     }
 
     /**
-     * Retrieves the names of all containers.
+     * Imposes a link profile on the links between nodes.
      *
-     * @return a list of strings, each representing the name of a container
+     * @param linkProfile the conditions to impose, or null to remove them
+     * @return the updated VoltDBCluster object
+     * @see #withLinkProfile(Duration, Duration, long, double)
      */
-    public List<String> getContainerNames() {
-        return containers.values().stream().map(VoltDBContainer::getContainerName).collect(Collectors.toList());
+    public VoltDBCluster withLinkProfile(LinkProfile linkProfile) {
+        LinkProfile previous = this.linkProfile;
+        this.linkProfile = linkProfile;
+        if (linkProfile != null || previous != null) {
+            try {
+                // shape every node of a pending startAsync, not only those already up
+                awaitStart();
+                applyLinkProfile(System.currentTimeMillis() + LINK_PROFILE_TIMEOUT_MILLIS);
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        }
+        return this;
     }
 
     /**
-     * Retrieves the network ID of the first container in the collection. Network is shared between the VoltDB containers.
+     * Imposes a link profile on the connections of clients on this machine. The shared client and
+     * addresses from {@link #getClientAddress(String)} then go through local proxies that delay
+     * and throttle the client port traffic. Packet loss does not apply to client links.
      *
-     * @return the network ID as a String
+     * @param clientLinkProfile the conditions to impose, or null to remove them
+     * @return the updated VoltDBCluster object
+     */
+    public synchronized VoltDBCluster withClientLinkProfile(LinkProfile clientLinkProfile) {
+        this.clientLinkProfile = clientLinkProfile;
+        closeClientProxies();
+        // reconnect through the new path on next use
+        closeSharedClient();
+        return this;
+    }
+
+    private synchronized void closeClientProxies() {
+        clientProxies.values().forEach(LatencyProxy::close);
+        clientProxies.clear();
+    }
+
+    private void applyLinkProfile(long deadline) throws IOException {
+        applyLinkProfile(containers(), deadline);
+    }
+
+    private void applyLinkProfile(Collection<VoltDBContainer> nodes, long deadline) throws IOException {
+        awaitAll(shapeLinks(nodes), deadline, "apply link profile " + linkProfile);
+    }
+
+    private List<Future<?>> shapeLinks(Collection<VoltDBContainer> nodes) {
+        LinkProfile profile = linkProfile;
+        List<Future<?>> shapers = new ArrayList<>();
+        for (VoltDBContainer voltDBContainer : nodes) {
+            if (voltDBContainer.isRunning()) {
+                shapers.add(executorService.submit(() -> LinkShaper.apply(voltDBContainer, profile)));
+            }
+        }
+        return shapers;
+    }
+
+    private synchronized void closeSharedClient() {
+        if (sharedClient != null) {
+            sharedClient.close();
+            sharedClient = null;
+        }
+    }
+
+    /**
+     * <p>getFirstMappedPort.</p>
+     *
+     * @return a int
+     */
+    public int getFirstMappedPort() {
+        awaitStartUnchecked();
+        return containers().stream().findFirst().get().getFirstMappedPort();
+    }
+
+    /**
+     * <p>getMappedPort.</p>
+     *
+     * @param port a int
+     * @return a int
+     */
+    public int getMappedPort(int port) {
+        awaitStartUnchecked();
+        return containers().stream().findFirst().get().getMappedPort(port);
+    }
+
+    /**
+     * <p>getHost.</p>
+     *
+     * @return a {@link java.lang.String} object
+     */
+    public String getHost() {
+        awaitStartUnchecked();
+        return containers().stream().findFirst().get().getHost();
+    }
+
+    /**
+     * <p>getHostAndPort.</p>
+     *
+     * @return a {@link java.lang.String} object
+     */
+    public String getHostAndPort() {
+        return String.format("%s:%d", getHost(), getMappedPort(21211));
+    }
+
+    /**
+     * Retrieves a VoltDB client from the cluster instance.
+     *
+     * @return The VoltDB client associated with the running instance, or null if no running instance is found.
+     * @throws java.io.IOException if an I/O error occurs while retrieving the client.
+     */
+    public Client getClient() throws IOException {
+        awaitStart();
+        for (VoltDBContainer voltDBContainer : containers()) {
+            if (voltDBContainer.isRunning()) {
+                return voltDBContainer.getConnectedClient();
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Retrieves a VoltDB client from the cluster instance with the specified host ID.
+     *
+     * @param host The host ID of the cluster instance from which to retrieve the client.
+     * @return The VoltDB client associated with the specified host, or null if no running instance is found.
+     * @throws java.io.IOException if an I/O error occurs while retrieving the client.
+     */
+    public Client getClient(String host) throws IOException {
+        awaitStart();
+        for (VoltDBContainer voltDBContainer : containers()) {
+            if (voltDBContainer.isRunning() && voltDBContainer.getHostId().equals(host)) {
+                return voltDBContainer.getConnectedClient();
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Retrieves a VoltDB Client2 from the cluster instance.
+     *
+     * @return The VoltDB Client2 associated with the running instance, or null if no running instance is found.
+     * @throws java.io.IOException if an I/O error occurs while retrieving the client.
+     */
+    public Client2 getClient2() throws IOException {
+        awaitStart();
+        for (VoltDBContainer voltDBContainer : containers()) {
+            if (voltDBContainer.isRunning()) {
+                return voltDBContainer.getConnectedClient2();
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Retrieves a VoltDB Client2 from the cluster instance with the specified host ID.
+     *
+     * @param host The host ID of the cluster instance from which to retrieve the client.
+     * @return The VoltDB Client2 associated with the specified host, or null if no running instance is found.
+     * @throws java.io.IOException if an I/O error occurs while retrieving the client.
+     */
+    public Client2 getClient2(String host) throws IOException {
+        awaitStart();
+        for (VoltDBContainer voltDBContainer : containers()) {
+            if (voltDBContainer.isRunning() && voltDBContainer.getHostId().equals(host)) {
+                return voltDBContainer.getConnectedClient2();
+            }
+        }
+        return null;
+    }
+
+    private static String userHome() {
+        String home = System.getProperty("user.home");
+        if (home == null || home.isEmpty() || home.equals("?")) {
+            home = System.getenv("HOME");
+            if (home == null || home.isEmpty()) {
+                home = "/etc";
+            }
+        }
+        return home;
+    }
+
+    private static String[] getHostList(int hostcount) {
+        List<String> hosts = new ArrayList<>();
+        for (int i = 0; i < hostcount; i++) {
+            hosts.add("host-" + i);
+        }
+        return hosts.toArray(new String[0]);
+    }
+
+    // Used by our extension which does add (elastic) tests
+
+    /**
+     * Returns the start command for the next group of kfactor + 1 nodes to join the cluster.
+     *
+     * @return a {@link java.lang.String} object
+     * @see #getJoinCommand(int, String)
+     */
+    protected String getJoinCommand() {
+        VoltDBContainer template = joinTemplate()
+                .orElseThrow(() -> new IllegalStateException("No running VoltDB containers found"));
+        return getJoinCommand(hostCount + kfactor + 1, template.getHostId());
+    }
+
+    /**
+     * Returns the start command of a node joining the running cluster.
+     *
+     * @param newHostCount the number of hosts in the cluster once the joining group has joined
+     * @param leader       the host name of a running node the new node contacts
+     * @return a {@link java.lang.String} object
+     */
+    protected String getJoinCommand(int newHostCount, String leader) {
+        return "--ignore=thp --count=" + newHostCount + " --host=" + leader + " --add";
+    }
+
+    /**
+     * Returns the running node, lowest host name first, whose settings joining nodes copy and
+     * whose address they join through.
+     */
+    private Optional<VoltDBContainer> joinTemplate() {
+        return containers.entrySet().stream()
+                .filter(entry -> entry.getValue().isRunning() && !stoppedNodes.containsKey(entry.getKey()))
+                .min(Map.Entry.comparingByKey())
+                .map(Map.Entry::getValue);
+    }
+
+    /**
+     * Adds nodes to the running cluster and waits for the elastic rebalance to finish.
+     *
+     * @param count the number of nodes to add, a multiple of kfactor + 1
+     * @return join and rebalance timings
+     * @throws IOException if a node fails to join or the rebalance does not finish within 5 minutes
+     * @see #addNodes(int, int)
+     */
+    public ExpansionReport addNodes(int count) throws IOException {
+        return addNodes(count, 300000);
+    }
+
+    /**
+     * Adds nodes to the running cluster and waits for the elastic rebalance to finish.
+     * <p>
+     * Nodes join in groups of kfactor + 1, the unit VoltDB adds at a time; each group is started
+     * concurrently with an {@code --add} start command on the cluster's network, and the next group
+     * starts once the previous rebalance has finished. New nodes share the settings of the existing
+     * ones, and the shared client is connected to them.
+     * <p>
+     * Workloads may keep running while nodes are added; the report counts the user procedure
+     * invocations the cluster completed during the rebalance.
+     *
+     * @param count         the number of nodes to add, a multiple of kfactor + 1
+     * @param timeoutMillis overall deadline in milliseconds for all nodes to join and rebalance
+     * @return join and rebalance timings
+     * @throws IOException if a node fails to join or the deadline is exceeded
+     * @throws IllegalArgumentException if {@code count} is not a positive multiple of kfactor + 1
+     */
+    public ExpansionReport addNodes(int count, int timeoutMillis) throws IOException {
+        int groupSize = kfactor + 1;
+        if (count < 1 || count % groupSize != 0) {
+            throw new IllegalArgumentException("count must be a positive multiple of kfactor + 1 (" + groupSize + "): " + count);
+        }
+        awaitStart();
+        long deadline = System.currentTimeMillis() + timeoutMillis;
+        Client2 client = getSharedClient();
+        VoltDBContainer template = joinTemplate()
+                .orElseThrow(() -> new IOException("No running VoltDB containers found"));
+        String leader = template.getHostId();
+
+        List<String> added = new ArrayList<>();
+        Duration joinDuration = Duration.ZERO;
+        Duration rebalanceDuration = Duration.ZERO;
+        long rowsMoved = 0;
+        long transactions = 0;
+        boolean observed = false;
+        for (int group = 0; group < count / groupSize; group++) {
+            int newHostCount = hostCount + groupSize;
+            String joinCommand = getJoinCommand(newHostCount, leader);
+            List<VoltDBContainer> nodes = new ArrayList<>();
+            for (int i = 0; i < groupSize; i++) {
+                int id = containers.size();
+                VoltDBContainer node = template.newNode(id, newHostCount, joinCommand);
+                String host = node.getHostId();
+                containers.put(host, node);
+                images.put(host, images.get(leader));
+                nodes.add(node);
+                added.add(host);
+            }
+            growStarterExecutor(containers.size());
+
+            long joinStart = System.nanoTime();
+            List<Future<?>> starters = new ArrayList<>();
+            for (VoltDBContainer node : nodes) {
+                starters.add(executorService.submit(node::start));
+            }
+            awaitAll(starters, deadline, "add VoltDB nodes " + nodes.stream().map(VoltDBContainer::getHostId).collect(Collectors.toList()));
+            hostCount = newHostCount;
+            joinDuration = joinDuration.plusNanos(System.nanoTime() - joinStart);
+            if (linkProfile != null) {
+                applyLinkProfile(nodes, deadline);
+            }
+            for (VoltDBContainer node : nodes) {
+                client.connectSync(getClientAddress(node.getHostId()));
+            }
+
+            long rebalanceStart = System.nanoTime();
+            // the statistics are deltas: read once to count only invocations made during the rebalance
+            userInvocations(client);
+            RebalanceProgress progress = awaitRebalance(client, deadline);
+            transactions += userInvocations(client);
+            rebalanceDuration = rebalanceDuration.plusNanos(System.nanoTime() - rebalanceStart);
+            rowsMoved += progress.rowsMoved;
+            observed |= progress.observed;
+        }
+        return new ExpansionReport(added, joinDuration, rebalanceDuration, rowsMoved, transactions, observed);
+    }
+
+    /**
+     * Kills a node's container without warning, as a crash or power loss would, and measures
+     * how long the surviving nodes take to detect the failure and resume transactions.
+     * The cluster must be k-safe to survive.
+     *
+     * @param hostId the host name of the node, such as {@code host-1}
+     * @return failure detection and client recovery times
+     * @throws IOException if the surviving cluster does not recover within 2 minutes
+     * @throws IllegalArgumentException if there is no running node with that host name
+     */
+    public NodeFaultReport killNode(String hostId) throws IOException {
+        VoltDBContainer voltDBContainer = runningNode(hostId);
+        long voltHostId = voltHostId(hostId);
+        long faultStart = System.nanoTime();
+        voltDBContainer.getDockerClient().killContainerCmd(voltDBContainer.getContainerId()).exec();
+        stoppedNodes.put(hostId, NodeFaultReport.Action.KILL.name());
+        return awaitFailover(hostId, NodeFaultReport.Action.KILL, voltHostId, faultStart);
+    }
+
+    /**
+     * Shuts a node down cleanly with {@code @StopNode} and measures how long the remaining nodes
+     * take to drop it and resume transactions. The cluster must be k-safe to allow it.
+     *
+     * @param hostId the host name of the node, such as {@code host-1}
+     * @return failure detection and client recovery times
+     * @throws IOException if the node refuses to stop or the cluster does not recover within 2 minutes
+     * @throws IllegalArgumentException if there is no running node with that host name
+     */
+    public NodeFaultReport stopNode(String hostId) throws IOException {
+        VoltDBContainer voltDBContainer = runningNode(hostId);
+        long voltHostId = voltHostId(hostId);
+        long faultStart = System.nanoTime();
+        try {
+            ClientResponse response = getSharedClient().callProcedureSync("@StopNode", (int) voltHostId);
+            if (response.getStatus() != ClientResponse.SUCCESS) {
+                throw new IOException("Could not stop " + hostId + ": " + response.getStatusString());
+            }
+        } catch (ProcCallException e) {
+            throw new IOException("Could not stop " + hostId, e);
+        }
+        stoppedNodes.put(hostId, NodeFaultReport.Action.STOP.name());
+        try {
+            // the survivors are reconnected to once the stopped node's container is gone
+            if (!awaitExit(voltDBContainer, System.currentTimeMillis() + FAULT_TIMEOUT_MILLIS)) {
+                throw new IOException("Timed out waiting for " + hostId + " to exit");
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IOException("Interrupted while waiting for " + hostId + " to exit", e);
+        }
+        return awaitFailover(hostId, NodeFaultReport.Action.STOP, voltHostId, faultStart);
+    }
+
+    /**
+     * Restarts a node removed by {@link #killNode(String)} or {@link #stopNode(String)} in a new
+     * container with the cluster's start command, so that it rejoins the surviving cluster, and
+     * measures how long the rejoin takes. This also applies to a node added by
+     * {@link #addNodes(int)}, which is a cluster member by then and must not join again.
+     *
+     * @param hostId the host name of the node, such as {@code host-1}
+     * @return rejoin and client recovery times
+     * @throws IOException if the node does not rejoin within 2 minutes
+     * @throws IllegalArgumentException if the node was not stopped or killed
+     */
+    public NodeFaultReport rejoinNode(String hostId) throws IOException {
+        VoltDBContainer voltDBContainer = containers.get(hostId);
+        if (voltDBContainer == null || !stoppedNodes.containsKey(hostId)) {
+            throw new IllegalArgumentException("Not a stopped or killed node: " + hostId);
+        }
+        long faultStart = System.nanoTime();
+        voltDBContainer.stop();
+        voltDBContainer.withStartCommand(getStartCommand(hostCount));
+        voltDBContainer.setRejoining(true);
+        try {
+            voltDBContainer.start();
+        } finally {
+            voltDBContainer.setRejoining(false);
+        }
+        Duration rejoin = Duration.ofNanos(System.nanoTime() - faultStart);
+        stoppedNodes.remove(hostId);
+        if (linkProfile != null) {
+            applyLinkProfile(List.of(voltDBContainer), System.currentTimeMillis() + LINK_PROFILE_TIMEOUT_MILLIS);
+        }
+
+        // reconnect so the rejoined node takes its share of client traffic again
+        closeSharedClient();
+        awaitAvailability(getSharedClient(), System.currentTimeMillis() + FAULT_TIMEOUT_MILLIS);
+        return new NodeFaultReport(hostId, NodeFaultReport.Action.REJOIN, null,
+                Duration.ofNanos(System.nanoTime() - faultStart), rejoin);
+    }
+
+    private VoltDBContainer runningNode(String hostId) {
+        awaitStartUnchecked();
+        VoltDBContainer voltDBContainer = containers.get(hostId);
+        if (voltDBContainer == null || !voltDBContainer.isRunning() || stoppedNodes.containsKey(hostId)) {
+            throw new IllegalArgumentException("Not a running node: " + hostId);
+        }
+        return voltDBContainer;
+    }
+
+    /**
+     * Looks up VoltDB's numeric host id of a node by its host name.
+     */
+    private long voltHostId(String hostId) throws IOException {
+        Long voltHostId = voltHostIds().get(hostId);
+        if (voltHostId == null) {
+            throw new IllegalArgumentException("Node is not a cluster member: " + hostId);
+        }
+        return voltHostId;
+    }
+
+    /**
+     * Maps the host name of every cluster member to VoltDB's numeric host id.
+     */
+    private Map<String, Long> voltHostIds() throws IOException {
+        Map<String, Long> ids = new HashMap<>();
+        try {
+            VoltTable overview = getSharedClient().callProcedureSync("@SystemInformation", "OVERVIEW").getResults()[0];
+            while (overview.advanceRow()) {
+                if ("HOSTNAME".equals(overview.getString("KEY"))) {
+                    ids.put(overview.getString("VALUE"), overview.getLong("HOST_ID"));
+                }
+            }
+        } catch (ProcCallException e) {
+            throw new IOException("Could not read cluster overview", e);
+        }
+        return ids;
+    }
+
+    /**
+     * Splits the cluster network in two and measures how VoltDB resolves the partition.
+     * <p>
+     * The nodes of {@code sideB} are moved to a network of their own, so each side can only reach
+     * its own nodes. VoltDB's partition detection keeps the larger side, or on a tie the side with
+     * the lowest host id, and shuts the other side down; the nodes shut down are recorded as
+     * stopped and can be brought back with {@link #rejoinNode(String)} after {@link #heal()}.
+     * The outcome is observed through clients connected to each side's mapped ports after the move,
+     * since moving a node to another network changes its address and drops existing connections.
+     *
+     * @param sideA host names of the nodes on one side; together with {@code sideB} every running node
+     * @param sideB host names of the nodes on the other side
+     * @return the surviving side, detection time and client-visible outage
+     * @throws IOException if the cluster does not settle within 2 minutes
+     * @throws IllegalArgumentException if the sides are empty, overlap or do not cover the running nodes
+     * @throws IllegalStateException if the network is already partitioned
+     */
+    public PartitionReport partitionNetwork(Set<String> sideA, Set<String> sideB) throws IOException {
+        if (partitionNetwork != null) {
+            throw new IllegalStateException("The network is already partitioned; heal() it first");
+        }
+        awaitStart();
+        Set<String> running = containers.entrySet().stream()
+                .filter(entry -> entry.getValue().isRunning() && !stoppedNodes.containsKey(entry.getKey()))
+                .map(Map.Entry::getKey)
+                .collect(Collectors.toSet());
+        Set<String> both = new HashSet<>(sideA);
+        both.addAll(sideB);
+        if (sideA.isEmpty() || sideB.isEmpty() || both.size() != sideA.size() + sideB.size() || !both.equals(running)) {
+            throw new IllegalArgumentException("Sides must be non-empty, disjoint and together cover the running nodes "
+                                               + running + ": " + sideA + " / " + sideB);
+        }
+        Network shared = containers.get(sideB.iterator().next()).getNetwork();
+        if (shared == null) {
+            throw new IllegalStateException("The cluster is not on a docker network");
+        }
+        Map<String, Long> voltHostIds = voltHostIds();
+        Set<Long> idsA = sideA.stream().map(voltHostIds::get).collect(Collectors.toSet());
+        Set<Long> idsB = sideB.stream().map(voltHostIds::get).collect(Collectors.toSet());
+        long deadline = System.currentTimeMillis() + FAULT_TIMEOUT_MILLIS;
+
+        Client2 probeA = null;
+        Client2 probeB = null;
+        try {
+            Network split = Network.newNetwork();
+            long faultStart = System.nanoTime();
+            for (String host : sideB) {
+                moveNetwork(containers.get(host), shared, split);
+            }
+            partitionNetwork = split;
+            partitionedFrom = shared;
+            partitionedHosts = Set.copyOf(sideB);
+            closeSharedClient();
+            // the moved nodes have new interfaces; shape them without holding up detection
+            List<Future<?>> shapers = linkProfile != null
+                    ? shapeLinks(sideB.stream().map(containers::get).collect(Collectors.toList()))
+                    : List.of();
+
+            Set<String> survivors;
+            Client2 survivorProbe;
+            while (true) {
+                probeA = reconnectProbe(probeA, sideA);
+                if (probeA != null && onlyMembers(probeA, idsA)) {
+                    survivors = sideA;
+                    survivorProbe = probeA;
+                    break;
+                }
+                probeB = reconnectProbe(probeB, sideB);
+                if (probeB != null && onlyMembers(probeB, idsB)) {
+                    survivors = sideB;
+                    survivorProbe = probeB;
+                    break;
+                }
+                if (both.stream().noneMatch(host -> containers.get(host).isRunning())) {
+                    survivors = Set.of();
+                    survivorProbe = null;
+                    break;
+                }
+                if (System.currentTimeMillis() >= deadline) {
+                    throw new IOException("Timed out waiting for the cluster to resolve the network partition");
+                }
+                Thread.sleep(FAULT_POLL_MILLIS);
+            }
+            Duration detection = Duration.ofNanos(System.nanoTime() - faultStart);
+            for (String host : both) {
+                if (!survivors.contains(host)) {
+                    stoppedNodes.put(host, "PARTITIONED");
+                }
+            }
+
+            Duration outage = null;
+            if (survivorProbe != null) {
+                awaitAvailability(survivorProbe, deadline);
+                outage = Duration.ofNanos(System.nanoTime() - faultStart);
+            }
+            awaitAll(shapers, deadline, "apply link profile " + linkProfile);
+            return new PartitionReport(sideA, sideB, survivors, detection, outage);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IOException("Interrupted while waiting for the network partition to resolve", e);
+        } finally {
+            if (probeA != null) {
+                probeA.close();
+            }
+            if (probeB != null) {
+                probeB.close();
+            }
+        }
+    }
+
+    /**
+     * Reconnects the nodes moved by {@link #partitionNetwork(Set, Set)} to the cluster network.
+     * Nodes that VoltDB shut down stay down; restart them with {@link #rejoinNode(String)}.
+     */
+    public void heal() {
+        if (partitionNetwork == null) {
+            return;
+        }
+        List<VoltDBContainer> moved = new ArrayList<>();
+        for (String host : partitionedHosts) {
+            VoltDBContainer voltDBContainer = containers.get(host);
+            if (voltDBContainer.getContainerId() == null || !onNetwork(voltDBContainer, partitionNetwork)) {
+                // the container was replaced by a rejoin, which starts it on the cluster network
+                continue;
+            }
+            try {
+                moveNetwork(voltDBContainer, partitionNetwork, partitionedFrom);
+                moved.add(voltDBContainer);
+            } catch (NotFoundException e) {
+                // the container was removed while healing; it starts on the cluster network when rejoined
+            }
+        }
+        partitionNetwork.close();
+        partitionNetwork = null;
+        partitionedFrom = null;
+        partitionedHosts = Set.of();
+        if (linkProfile != null) {
+            try {
+                applyLinkProfile(moved, System.currentTimeMillis() + LINK_PROFILE_TIMEOUT_MILLIS);
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        }
+    }
+
+    private static void moveNetwork(VoltDBContainer voltDBContainer, Network from, Network to) {
+        DockerClient docker = voltDBContainer.getDockerClient();
+        docker.disconnectFromNetworkCmd()
+                .withNetworkId(from.getId())
+                .withContainerId(voltDBContainer.getContainerId())
+                .withForce(true)
+                .exec();
+        docker.connectToNetworkCmd()
+                .withNetworkId(to.getId())
+                .withContainerId(voltDBContainer.getContainerId())
+                .withContainerNetwork(new ContainerNetwork().withAliases(voltDBContainer.getHostId()))
+                .exec();
+    }
+
+    private static boolean onNetwork(VoltDBContainer voltDBContainer, Network network) {
+        try {
+            return voltDBContainer.getDockerClient()
+                    .inspectContainerCmd(voltDBContainer.getContainerId())
+                    .exec()
+                    .getNetworkSettings()
+                    .getNetworks()
+                    .values()
+                    .stream()
+                    .anyMatch(endpoint -> network.getId().equals(endpoint.getNetworkID()));
+        } catch (NotFoundException e) {
+            return false;
+        }
+    }
+
+    /**
+     * Returns the probe if it is still connected, or else a new probe of the given nodes, or null
+     * if none of them accepts connections yet.
+     */
+    private Client2 reconnectProbe(Client2 probe, Set<String> hosts) {
+        if (probe != null) {
+            if (!probe.connectedHosts().isEmpty()) {
+                return probe;
+            }
+            probe.close();
+        }
+        try {
+            return connectProbe(hosts);
+        } catch (IOException e) {
+            return null;
+        }
+    }
+
+    /**
+     * Connects a client to the given nodes only, with a short call timeout so probes of a
+     * stalled side return quickly.
+     */
+    private Client2 connectProbe(Set<String> hosts) throws IOException {
+        VoltDBContainer first = containers.get(hosts.iterator().next());
+        Client2 client = ClientFactory.createClient(first.newClient2Config()
+                .disableConnectionMgmt()
+                .procedureCallTimeout(2, TimeUnit.SECONDS));
+        try {
+            for (String host : hosts) {
+                client.connectSync("localhost:" + containers.get(host).getMappedPort(VoltDBContainer.VOLTDB_CLIENT_PORT));
+            }
+        } catch (IOException e) {
+            client.close();
+            throw e;
+        }
+        return client;
+    }
+
+    /**
+     * Returns true if the cluster seen through the client consists of exactly the given hosts.
+     */
+    private static boolean onlyMembers(Client2 client, Set<Long> voltHostIds) {
+        Set<Long> members = new HashSet<>();
+        try {
+            VoltTable overview = client.callProcedureSync("@SystemInformation", "OVERVIEW").getResults()[0];
+            while (overview.advanceRow()) {
+                members.add(overview.getLong("HOST_ID"));
+            }
+        } catch (IOException | ProcCallException e) {
+            return false;
+        }
+        return members.equals(voltHostIds);
+    }
+
+    private NodeFaultReport awaitFailover(String hostId, NodeFaultReport.Action action, long voltHostId,
+                                          long faultStart) throws IOException {
+        long deadline = System.currentTimeMillis() + FAULT_TIMEOUT_MILLIS;
+        // the shared client holds a connection to the failed node; start over with the survivors
+        closeSharedClient();
+        Client2 client = getSharedClient();
+        try {
+            while (true) {
+                boolean member = false;
+                try {
+                    VoltTable overview = client.callProcedureSync("@SystemInformation", "OVERVIEW").getResults()[0];
+                    while (overview.advanceRow()) {
+                        member |= overview.getLong("HOST_ID") == voltHostId;
+                    }
+                } catch (ProcCallException e) {
+                    // fault resolution in progress
+                    member = true;
+                }
+                if (!member) {
+                    break;
+                }
+                if (System.currentTimeMillis() >= deadline) {
+                    throw new IOException("Timed out waiting for the cluster to detect the failure of " + hostId);
+                }
+                Thread.sleep(FAULT_POLL_MILLIS);
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IOException("Interrupted while waiting for the failure of " + hostId, e);
+        }
+        Duration detection = Duration.ofNanos(System.nanoTime() - faultStart);
+        awaitAvailability(client, deadline);
+        return new NodeFaultReport(hostId, action, detection, Duration.ofNanos(System.nanoTime() - faultStart), null);
+    }
+
+    /**
+     * Waits until a multi-partition read succeeds: a count of the first user table or, without
+     * user tables, a cluster overview.
+     */
+    private static void awaitAvailability(Client2 client, long deadline) throws IOException {
+        String probeTable = null;
+        try {
+            while (true) {
+                try {
+                    if (probeTable == null) {
+                        VoltTable tables = client.callProcedureSync("@SystemCatalog", "TABLES").getResults()[0];
+                        while (probeTable == null && tables.advanceRow()) {
+                            if ("TABLE".equals(tables.getString("TABLE_TYPE"))) {
+                                probeTable = tables.getString("TABLE_NAME");
+                            }
+                        }
+                        if (probeTable == null) {
+                            probeTable = "";
+                        }
+                    }
+                    ClientResponse response = probeTable.isEmpty()
+                            ? client.callProcedureSync("@SystemInformation", "OVERVIEW")
+                            : client.callProcedureSync("@AdHoc", "SELECT COUNT(*) FROM " + probeTable + ";");
+                    if (response.getStatus() == ClientResponse.SUCCESS) {
+                        return;
+                    }
+                } catch (ProcCallException e) {
+                    // not available yet
+                }
+                if (System.currentTimeMillis() >= deadline) {
+                    throw new IOException("Timed out waiting for the cluster to accept transactions");
+                }
+                Thread.sleep(FAULT_POLL_MILLIS);
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IOException("Interrupted while waiting for the cluster to accept transactions", e);
+        }
+    }
+
+    private static final class RebalanceProgress {
+        private final long rowsMoved;
+        private final boolean observed;
+
+        private RebalanceProgress(long rowsMoved, boolean observed) {
+            this.rowsMoved = rowsMoved;
+            this.observed = observed;
+        }
+    }
+
+    private static RebalanceProgress awaitRebalance(Client2 client, long deadline) throws IOException {
+        long settleDeadline = System.currentTimeMillis() + REBALANCE_SETTLE_MILLIS;
+        long rowsMoved = 0;
+        boolean observed = false;
+        try {
+            while (true) {
+                VoltTable rebalance = client.callProcedureSync("@Statistics", "REBALANCE", 0).getResults()[0];
+                if (rebalance.getRowCount() > 0) {
+                    observed = true;
+                    while (rebalance.advanceRow()) {
+                        rowsMoved = Math.max(rowsMoved, rebalance.getLong("MOVED_ROWS"));
+                    }
+                } else if (observed || System.currentTimeMillis() >= settleDeadline) {
+                    return new RebalanceProgress(rowsMoved, observed);
+                }
+                if (System.currentTimeMillis() >= deadline) {
+                    throw new IOException("Timed out waiting for elastic rebalance to finish");
+                }
+                Thread.sleep(REBALANCE_POLL_MILLIS);
+            }
+        } catch (ProcCallException e) {
+            throw new IOException("Could not read rebalance statistics", e);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IOException("Interrupted while waiting for elastic rebalance", e);
+        }
+    }
+
+    /**
+     * Returns user procedure invocations since the previous call, as counted by the
+     * {@code PROCEDUREPROFILE} delta statistics.
+     */
+    private static long userInvocations(Client2 client) throws IOException {
+        try {
+            VoltTable profile = client.callProcedureSync("@Statistics", "PROCEDUREPROFILE", 1).getResults()[0];
+            long invocations = 0;
+            while (profile.advanceRow()) {
+                if (!profile.getString("PROCEDURE").startsWith("org.voltdb.sysprocs.")) {
+                    invocations += profile.getLong("INVOCATIONS");
+                }
+            }
+            return invocations;
+        } catch (ProcCallException e) {
+            throw new IOException("Could not read procedure statistics", e);
+        }
+    }
+
+    /**
+     * <p>getStartCommand.</p>
+     *
+     * @param hostcount a int
+     * @return a {@link java.lang.String} object
+     */
+    public static String getStartCommand(int hostcount) {
+        return "--ignore=thp --count=" + hostcount + " --host=" + String.join(",", getHostList(hostcount));
+    }
+
+    // Used by our extension which does stop and require access to container for many other purposes.
+
+    /**
+     * <p>getContainer.</p>
+     *
+     * @param container a {@link java.lang.String} object
+     * @return a {@link org.voltdbtest.testcontainer.VoltDBContainer} object
+     */
+    protected VoltDBContainer getContainer(String container) {
+        return containers.get(container);
+    }
+
+    /**
+     * Get created {@link VoltDBContainer}s IDs
+     *
+     * @return list of Docker containers IDs
+     */
+    public List<String> getContainerIds() {
+        return containers.values().stream().map(VoltDBContainer::getContainerId).collect(Collectors.toList());
+    }
+
+    /**
+     * Retrieves the names of all containers.
+     *
+     * @return a list of strings, each representing the name of a container
+     */
+    public List<String> getContainerNames() {
+        return containers.values().stream().map(VoltDBContainer::getContainerName).collect(Collectors.toList());
+    }
+
+    /**
+     * Retrieves the network ID of the first container in the collection. Network is shared between the VoltDB containers.
+     *
+     * @return the network ID as a String
      */
     public String getNetworkId() {
         return containers.values().stream().map(VoltDBContainer::getNetworkId).collect(Collectors.toList()).get(0);
@@ -508,38 +1845,98 @@ public class VoltDBCluster {
 
     /**
      * Shuts down all the VoltDB instances in the cluster.
-     * Waits for each instance to stop before proceeding to the next one.
-     * This method blocks until all instances have been shutdown or the timeout is reached.
+     * Sends {@code @Shutdown} once and then removes every container concurrently, allowing up to
+     * 30 seconds in total. A cluster started with {@link #withReuse(boolean)} is left running.
+     *
+     * @see #shutdown(boolean, Duration)
      */
     public void shutdown() {
+        settlePendingStart();
+        if (reuse) {
+            // leave the nodes running for the next run to reattach to
+            closeSharedClient();
+            return;
+        }
+        shutdown(false, Duration.ofSeconds(30));
+        System.out.println("Done Shutting down VoltDB");
+    }
+
+    // lets an asynchronous start finish first, so no node comes up after the teardown
+    private void settlePendingStart() {
+        try {
+            awaitStart();
+        } catch (IOException e) {
+            // a failed start still leaves its started nodes to tear down
+        }
+    }
+
+    /**
+     * Shuts down all the VoltDB instances in the cluster within one overall deadline.
+     * <p>
+     * Unless {@code fastKill} is set, {@code @Shutdown} is sent once and each node is given until
+     * the deadline to exit before its container is killed. With {@code fastKill} the containers are
+     * killed straight away, which is the quickest teardown for tests that do not need a clean exit.
+     * Nodes are torn down concurrently, so the cluster takes about as long as its slowest node.
+     *
+     * @param fastKill true to kill the containers without sending {@code @Shutdown}
+     * @param timeout  overall time allowed for the teardown
+     * @return per-node teardown timings
+     */
+    public ShutdownReport shutdown(boolean fastKill, Duration timeout) {
+        settlePendingStart();
+        long start = System.nanoTime();
+        long deadline = System.currentTimeMillis() + timeout.toMillis();
         try {
-            Client client = getClient();
-            if (client != null) {
-                client.callProcedure("@Shutdown");
+            if (!fastKill && containers().stream().anyMatch(VoltDBContainer::isRunning)) {
+                getSharedClient().callProcedureSync("@Shutdown");
             }
         } catch (IOException | ProcCallException e) {
             // ignore loss of connection shutting down
+        } finally {
+            closeSharedClient();
+            closeClientProxies();
         }
 
-        for (VoltDBContainer voltDBContainer : containers()) {
-            voltDBContainer.stop();
-            long st = System.currentTimeMillis();
-            while (st < System.currentTimeMillis() + 30000) {
-                try {
-                    if (!voltDBContainer.isRunning()) {
-                        break;
-                    }
-                    Thread.sleep(5000);
-                } catch (InterruptedException e) {
-                    try {
-                        Thread.sleep(5000);
-                    } catch (InterruptedException ex) {
-                        //Ignore
-                    }
+        List<String> killed = Collections.synchronizedList(new ArrayList<>());
+        Map<String, Future<Duration>> stops = new HashMap<>();
+        for (Map.Entry<String, VoltDBContainer> entry : containers.entrySet()) {
+            stops.put(entry.getKey(), executorService.submit(() -> {
+                VoltDBContainer voltDBContainer = entry.getValue();
+                boolean exited = fastKill ? !voltDBContainer.isRunning() : awaitExit(voltDBContainer, deadline);
+                if (!exited) {
+                    killed.add(entry.getKey());
                 }
+                voltDBContainer.stop();
+                return Duration.ofNanos(System.nanoTime() - start);
+            }));
+        }
+
+        Map<String, Duration> nodeElapsed = new HashMap<>();
+        List<String> failed = new ArrayList<>();
+        for (Map.Entry<String, Future<Duration>> stop : stops.entrySet()) {
+            try {
+                // allow the kill itself a moment beyond the deadline
+                nodeElapsed.put(stop.getKey(), stop.getValue().get(remainingMillis(deadline) + 5000L, TimeUnit.MILLISECONDS));
+            } catch (TimeoutException | ExecutionException e) {
+                stop.getValue().cancel(true);
+                failed.add(stop.getKey());
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                stop.getValue().cancel(true);
+                failed.add(stop.getKey());
             }
         }
-        System.out.println("Done Shutting down VoltDB");
+        return new ShutdownReport(Duration.ofNanos(System.nanoTime() - start), nodeElapsed, killed, failed);
+    }
+
+    private static boolean awaitExit(VoltDBContainer voltDBContainer, long deadline) throws InterruptedException {
+        while (voltDBContainer.isRunning()) {
+            if (System.currentTimeMillis() >= deadline) {
+                return false;
+            }
+            Thread.sleep(100);
+        }
+        return true;
     }
 
     /**
@@ -673,6 +2070,69 @@ public class VoltDBCluster {
         return this;
     }
 
+    /**
+     * Times the VoltDB phases of each node's start in the report returned by {@link #start()}.
+     *
+     * @param enabled true to time the VoltDB phases
+     * @return the updated VoltDBCluster object
+     * @see VoltDBContainer#withStartupReport(boolean)
+     */
+    public VoltDBCluster withStartupReport(boolean enabled) {
+        for (VoltDBContainer voltDBContainer : containers()) {
+            voltDBContainer.withStartupReport(enabled);
+        }
+        return this;
+    }
+
+    /**
+     * Keeps the cluster running across test JVMs.
+     * <p>
+     * On {@link #start()} the nodes are labelled with a hash of the image, host count, kfactor,
+     * deployment and the contents of every schema, class and other file copied in, and attached to
+     * a docker network named after that hash. If a cluster with the same hash is already running,
+     * testcontainers reattaches to it, and its user tables are truncated instead of restarting it.
+     * {@link #shutdown()} leaves the nodes running.
+     * <p>
+     * Reuse must also be enabled with {@code testcontainers.reuse.enable=true} in
+     * {@code ~/.testcontainers.properties}; otherwise new nodes are started on every run.
+     *
+     * @param reuse true to reuse a matching running cluster
+     * @return the updated VoltDBCluster object
+     */
+    public VoltDBCluster withReuse(boolean reuse) {
+        this.reuse = reuse;
+        return this;
+    }
+
+    /**
+     * Enables or disables the voltdbroot init cache in the default directory for all containers.
+     *
+     * @param enabled true to enable the cache
+     * @return the updated VoltDBCluster object
+     * @see VoltDBContainer#withInitCache(Path)
+     */
+    public VoltDBCluster withInitCache(boolean enabled) {
+        for (VoltDBContainer voltDBContainer : containers()) {
+            voltDBContainer.withInitCache(enabled);
+        }
+        return this;
+    }
+
+    /**
+     * Caches the initialized voltdbroot of every container on the host so later runs with the
+     * same image, deployment, license, schemas and classes can skip {@code voltdb init}.
+     *
+     * @param cacheDir host directory holding cached archives, or null to disable the cache
+     * @return the updated VoltDBCluster object
+     * @see VoltDBContainer#withInitCache(Path)
+     */
+    public VoltDBCluster withInitCache(Path cacheDir) {
+        for (VoltDBContainer voltDBContainer : containers()) {
+            voltDBContainer.withInitCache(cacheDir);
+        }
+        return this;
+    }
+
     /**
      * Sets the deployment resource for all VoltDB containers in the cluster.
      *
@@ -713,6 +2173,97 @@ public class VoltDBCluster {
         return this;
     }
 
+    /**
+     * Sets typed deployment settings for all VoltDB containers in the cluster.
+     * The cluster's host count and kfactor are used unless the builder sets its own.
+     *
+     * @param deploymentBuilder the deployment settings; each container keeps its own copy
+     * @return the updated VoltDBCluster object
+     * @see VoltDBContainer#withDeployment(DeploymentBuilder)
+     */
+    public VoltDBCluster withDeployment(DeploymentBuilder deploymentBuilder) {
+        for (VoltDBContainer voltDBContainer : containers()) {
+            voltDBContainer.withDeployment(deploymentBuilder);
+        }
+        return this;
+    }
+
+    /**
+     * Limits the CPU time of the whole cluster, split evenly across the nodes.
+     *
+     * @param totalCpus the number of CPUs for all nodes together, may be fractional
+     * @return the updated VoltDBCluster object
+     * @see VoltDBContainer#withCpus(double)
+     */
+    public VoltDBCluster withCpus(double totalCpus) {
+        for (VoltDBContainer voltDBContainer : containers()) {
+            voltDBContainer.withCpus(totalCpus / containers.size());
+        }
+        return this;
+    }
+
+    /**
+     * Limits the memory of the whole cluster, split evenly across the nodes.
+     *
+     * @param totalMegabytes the memory for all nodes together in megabytes
+     * @return the updated VoltDBCluster object
+     * @see VoltDBContainer#withMemory(long)
+     */
+    public VoltDBCluster withMemory(long totalMegabytes) {
+        for (VoltDBContainer voltDBContainer : containers()) {
+            voltDBContainer.withMemory(totalMegabytes / containers.size());
+        }
+        return this;
+    }
+
+    /**
+     * Pins the cluster to the given host CPUs, giving each node its own contiguous share so
+     * nodes do not compete for cores.
+     *
+     * @param cpuset the CPUs in docker cpuset form, for example {@code 0-7}
+     * @return the updated VoltDBCluster object
+     * @throws IllegalArgumentException if the cpuset is malformed or has fewer CPUs than nodes
+     * @see VoltDBContainer#withCpuset(String)
+     */
+    public VoltDBCluster withCpuset(String cpuset) {
+        List<String> shares = CpuSet.split(cpuset, containers.size());
+        List<String> hosts = new ArrayList<>(containers.keySet());
+        Collections.sort(hosts);
+        for (int i = 0; i < hosts.size(); i++) {
+            containers.get(hosts.get(i)).withCpuset(shares.get(i));
+        }
+        return this;
+    }
+
+    /**
+     * Moves the VoltDB directory of every node out of the container's writable layer.
+     * With a named volume each node gets its own volume.
+     *
+     * @param dataDirectory a tmpfs or named volume, or null to keep data in the containers
+     * @return the updated VoltDBCluster object
+     * @see VoltDBContainer#withDataDirectory(DataDirectory)
+     */
+    public VoltDBCluster withDataDirectory(DataDirectory dataDirectory) {
+        for (VoltDBContainer voltDBContainer : containers()) {
+            voltDBContainer.withDataDirectory(dataDirectory);
+        }
+        return this;
+    }
+
+    /**
+     * Applies a preset of deployment, JVM and container settings to all VoltDB containers in the cluster.
+     *
+     * @param profile the preset to apply, or null to go back to the plain defaults
+     * @return the updated VoltDBCluster object
+     * @see VoltDBContainer#withProfile(Profile)
+     */
+    public VoltDBCluster withProfile(Profile profile) {
+        for (VoltDBContainer voltDBContainer : containers()) {
+            voltDBContainer.withProfile(profile);
+        }
+        return this;
+    }
+
     /**
      * Sets the initial schema for all VoltDB containers in the cluster by executing the given DDL schema file.
      *
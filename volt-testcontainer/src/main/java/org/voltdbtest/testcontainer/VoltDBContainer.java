@@ -7,11 +7,14 @@
  */
 package org.voltdbtest.testcontainer;
 
+import com.github.dockerjava.api.command.CreateContainerCmd;
 import com.github.dockerjava.api.command.InspectContainerResponse;
 import com.github.dockerjava.api.model.ContainerNetwork;
+import com.github.dockerjava.api.model.HostConfig;
+import org.testcontainers.containers.BindMode;
 import org.testcontainers.containers.GenericContainer;
 import org.testcontainers.containers.Network;
-import org.testcontainers.containers.wait.strategy.Wait;
+import org.testcontainers.containers.output.OutputFrame;
 import org.testcontainers.images.builder.Transferable;
 import org.testcontainers.utility.DockerImageName;
 import org.testcontainers.utility.MountableFile;
@@ -30,11 +33,20 @@ import java.io.InputStream;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.time.Duration;
+import java.util.ArrayList;
 import java.util.Collection;
+import java.util.HashSet;
+import java.util.Iterator;
 import java.util.LinkedHashMap;
+import java.util.List;
 import java.util.Map;
 import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 /**
  * A local containerized cluster which takes host alias, docker image name
@@ -58,6 +70,12 @@ public class VoltDBContainer extends GenericContainer<VoltDBContainer> {
 
     private static final Network NETWORK = Network.newNetwork();
 
+    // Interval between client connection attempts while the server is coming up.
+    private static final int CONNECT_RETRY_MILLIS = 250;
+    // Bounds of the heap derived from a memory limit.
+    private static final long DEFAULT_HEAP_MB = 2048;
+    private static final long MIN_HEAP_MB = 256;
+
     String startScript = """
             #!/bin/sh
             # This file is part of VoltDB.
@@ -76,6 +94,13 @@ public class VoltDBContainer extends GenericContainer<VoltDBContainer> {
             : ${VOLTDB_SCHEMA:=/etc/schemas}
             : ${VOLTDB_CLASSES:=/etc/classes}
             
+            # startup phase markers, only logged while a startup report is collected
+            phase() {
+              if [ -n "${VOLTDB_PHASE_MARKERS}" ] ; then
+                echo "VOLTDB_PHASE $1"
+              fi
+            }
+            
             s=""
             if [ -n "${VOLTDB_SCHEMA}" -a -e "${VOLTDB_SCHEMA}" ] ; then
               s=`ls ${VOLTDB_SCHEMA}/*.ddl ${VOLTDB_SCHEMA}/*.sql | tr '\\n' ',' | sed 's/,$/\\n/'`
@@ -89,6 +114,11 @@ public class VoltDBContainer extends GenericContainer<VoltDBContainer> {
             echo "Schemas requested to load: " $s
             echo "Classes requested to load: " $j
             
+            if [ ! -e ${VOLTDB_DIR}/voltdbroot -a -n "${VOLTDB_INIT_ARCHIVE}" -a -e "${VOLTDB_INIT_ARCHIVE}" ] ; then
+                echo "Restoring initialized voltdbroot from ${VOLTDB_INIT_ARCHIVE}"
+                tar xzf ${VOLTDB_INIT_ARCHIVE} -C ${VOLTDB_DIR}
+            fi
+            
             if [ ! -e ${VOLTDB_DIR}/voltdbroot ] ; then
                 if [ -n "${VOLTDB_CONFIG}" -a -e "${VOLTDB_CONFIG}" ] ; then
                     INIT_CMD="voltdb init -C ${VOLTDB_CONFIG} -D ${VOLTDB_DIR} --license=${VOLTDB_LICENSE}"
@@ -102,21 +132,18 @@ public class VoltDBContainer extends GenericContainer<VoltDBContainer> {
                     INIT_CMD="$INIT_CMD -j $j"
                 fi
                 echo $INIT_CMD
+                phase init-begin
                 eval $INIT_CMD
+                phase init-end
+                if [ -n "${VOLTDB_INIT_ARCHIVE_SAVE}" ] ; then
+                    tar czf ${VOLTDB_INIT_ARCHIVE_SAVE}.part -C ${VOLTDB_DIR} voltdbroot && mv ${VOLTDB_INIT_ARCHIVE_SAVE}.part ${VOLTDB_INIT_ARCHIVE_SAVE}
+                fi
             fi
             
+            phase start
             exec voltdb start -D ${VOLTDB_DIR} ${VOLTDB_START_CONFIG} --topicspublic=%s --drpublic=%s "$@"
             """;
 
-    String deploymentTemplate = """
-            <?xml version="1.0" encoding="UTF-8" standalone="yes"?>
-            <deployment>
-                <cluster hostcount="%d" sitesperhost="8" kfactor="%d"/>
-                <metrics enabled="true" interval="60s" maxbuffersize="200" />
-            %s\
-            </deployment>
-            """;
-
     /**
      * Network mode for the VoltDB container.
      */
@@ -133,7 +160,8 @@ public class VoltDBContainer extends GenericContainer<VoltDBContainer> {
 
     // This client is created automatically when cluster is up, don't close this is used for internal health check.
     Client client;
-    Client2 client2;
+    // Client behind callProcedureAsync and callProceduresAsync, connected on first use and closed when the container stops.
+    private Client2 asyncClient2;
 
     private final String hostId;
     private int kfactor;
@@ -156,7 +184,35 @@ public class VoltDBContainer extends GenericContainer<VoltDBContainer> {
     private String startCommand;
     private String licensePath;
     private String extraJarsDir;
+    // The deployment the user supplied, or null to generate one.
     private String deployment;
+    // The deployment copied in by the last configure(), generated or merged from the settings.
+    private String configuredDeployment;
+    private DeploymentBuilder deploymentBuilder;
+    private Profile profile;
+    private DataDirectory dataDirectory;
+    // Docker resource limits, null when unlimited.
+    private Double cpus;
+    private Long memoryMb;
+    private String cpuset;
+
+    // Host directory of the voltdbroot init cache, null when the cache is disabled.
+    private Path initCacheDir;
+    // Cache entry to fill once the container has started, null on a cache hit.
+    private Path pendingInitCacheEntry;
+    // The last file copied to each container path, in first copy order; hashed into the init cache key.
+    // Keyed by path because configure() copies the deployment and license again on every start.
+    private final Map<String, Transferable> initInputs = new LinkedHashMap<>();
+    // Paths of initInputs that configure() copies in, rather than the user.
+    private final Set<String> configuredPaths = new HashSet<>();
+    // True when testcontainers attached to an already running container instead of starting one.
+    private boolean reused;
+    // True when the next start rejoins a running cluster after this node failed.
+    private boolean rejoining;
+    // Timings of the most recent start, filled in by lifecycle hooks and the container log.
+    private volatile NodeStartupReport startupReport;
+    // True to also time the VoltDB phases of a start, from markers and lines in the container log.
+    private boolean startupReportEnabled;
 
     /**
      * Extra {@code -D} JVM system properties to forward to the VoltDB server JVM via
@@ -273,17 +329,133 @@ public class VoltDBContainer extends GenericContainer<VoltDBContainer> {
 
         topicPublicInterface = hostId;
         drPublicInterface = hostId;
+        startupReport = new NodeStartupReport(hostId);
+        withLogConsumer(this::recordStartupEvent);
+        // registered once, as configure() runs again on every start
+        withCreateContainerCmdModifier(this::modifyCreateContainerCmd);
     }
 
     @Override
-    protected void configure() {
-        if (deployment == null) {
-            deployment = getDeployment();
+    public void start() {
+        NodeStartupReport report = new NodeStartupReport(hostId);
+        startupReport = report;
+        report.mark(NodeStartupReport.Event.STARTED);
+        getDockerImageName();
+        report.mark(NodeStartupReport.Event.IMAGE_RESOLVED);
+        super.start();
+    }
+
+    /**
+     * Returns the phase timings of the most recent start of this container. The docker phases
+     * are always timed; the VoltDB phases only with {@link #withStartupReport(boolean)}.
+     *
+     * @return the startup report
+     */
+    public NodeStartupReport getStartupReport() {
+        return startupReport;
+    }
+
+    /**
+     * Creates a container for a new node of this node's cluster, with the same license, image,
+     * deployment, profile, CPU and memory limits, JVM properties, security and network settings.
+     * Initial schema and classes are not carried over, as a joining node receives them from the
+     * cluster, and neither is the cpuset, so the new node does not share this node's cores.
+     *
+     * @param id           the ID of the new node
+     * @param hostCount    the number of hosts in the cluster once the node has joined
+     * @param startCommand the start command of the new node
+     * @return a container that is configured but not started
+     */
+    VoltDBContainer newNode(int id, int hostCount, String startCommand) {
+        VoltDBContainer node = new VoltDBContainer(id, licensePath, getDockerImageName(), hostCount, kfactor,
+                deployment, startCommand, extraJarsDir);
+        node.commandLogEnabled = commandLogEnabled;
+        node.networkType = networkType;
+        node.tlsEnabled = tlsEnabled;
+        node.username = username;
+        node.password = password;
+        node.trustStorePassword = trustStorePassword;
+        node.keyStorePassword = keyStorePassword;
+        node.keyStorePath = keyStorePath;
+        node.trustStorePath = trustStorePath;
+        node.deploymentBuilder = deploymentBuilder == null ? null : deploymentBuilder.copy();
+        node.profile = profile;
+        node.dataDirectory = dataDirectory;
+        node.cpus = cpus;
+        node.memoryMb = memoryMb;
+        node.javaProperties.putAll(javaProperties);
+        node.startupReportEnabled = startupReportEnabled;
+        if (getNetwork() != null) {
+            node.setNetwork(getNetwork());
+            node.setNetworkMode(getNetwork().getId());
+        }
+        return node;
+    }
+
+    /**
+     * Marks whether the next start rejoins a running cluster, which VoltDB reports with a
+     * different log line than a cluster start.
+     *
+     * @param rejoining true if the node rejoins a cluster that is running without it
+     */
+    void setRejoining(boolean rejoining) {
+        this.rejoining = rejoining;
+    }
+
+    private void recordStartupEvent(OutputFrame frame) {
+        if (!startupReportEnabled) {
+            return;
+        }
+        String line = frame.getUtf8String();
+        NodeStartupReport report = startupReport;
+        if (line.contains("VOLTDB_PHASE init-begin")) {
+            report.mark(NodeStartupReport.Event.INIT_BEGIN);
+        } else if (line.contains("VOLTDB_PHASE init-end")) {
+            report.mark(NodeStartupReport.Event.INIT_END);
+        } else if (line.contains("VOLTDB_PHASE start")) {
+            report.mark(NodeStartupReport.Event.START_EXEC);
+        } else if (line.contains("Build: ")) {
+            report.mark(NodeStartupReport.Event.BOOTED);
+        } else if (line.contains("Host id of this node is")) {
+            report.mark(NodeStartupReport.Event.MESH_JOINED);
+        } else if (line.contains("Server completed initialization") || line.contains("Node rejoin completed")) {
+            report.mark(NodeStartupReport.Event.READY);
         }
+    }
+
+    @Override
+    public void copyFileToContainer(Transferable transferable, String containerPath) {
+        startupReport.mark(NodeStartupReport.Event.COPY_BEGIN);
+        super.copyFileToContainer(transferable, containerPath);
+    }
+
+    @Override
+    protected void containerIsCreated(String containerId) {
+        startupReport.mark(NodeStartupReport.Event.CREATED);
+        super.containerIsCreated(containerId);
+    }
+
+    @Override
+    protected void configure() {
+        Set<String> userPaths = new HashSet<>(initInputs.keySet());
+        configuredDeployment = getDeployment();
 
         withEnv("VOLTDB_START_CONFIG", startCommand);
         withEnv("VOLTDB_CONFIG", "/etc/deployment.xml");
         withEnv("VOLTDB_OPTS", buildVoltdbOpts());
+        withEnv("VOLTDB_PHASE_MARKERS", startupReportEnabled ? "true" : "");
+        Integer heapMaxMb = deploymentSettings().getHeapMaxMb();
+        if (heapMaxMb == null && memoryMb != null) {
+            heapMaxMb = (int) Math.max(MIN_HEAP_MB, Math.min(DEFAULT_HEAP_MB, memoryMb / 2));
+        }
+        if (heapMaxMb != null) {
+            withEnv("VOLTDB_HEAPMAX", String.valueOf(heapMaxMb));
+        }
+        DataDirectory data = effectiveDataDirectory();
+        if (data != null) {
+            withEnv("VOLTDB_DIR", DataDirectory.PATH);
+            withTmpFs(data.tmpfsMounts());
+        }
 
         if (getNetwork() == null) {
             withNetworkMode(NETWORK.getId());
@@ -293,12 +465,14 @@ public class VoltDBContainer extends GenericContainer<VoltDBContainer> {
 
         handleLicenseSetup(licensePath);
 
-        withCopyToContainer(Transferable.of(deployment), "/etc/deployment.xml");
+        withCopyToContainer(Transferable.of(configuredDeployment), "/etc/deployment.xml");
         addExposedPorts(21212, VOLTDB_CLIENT_PORT, 9092, 5555);
-        withCreateContainerCmdModifier(cmd -> cmd.withHostName(hostId));
         withReuse(true);
 
-        setWaitStrategy(Wait.forSuccessfulCommand("echo")
+        setWaitStrategy(new VoltDBWaitStrategy()
+                .withReadyMessage(rejoining ? VoltDBWaitStrategy.REJOIN_MESSAGE : VoltDBWaitStrategy.READY_MESSAGE)
+                // a rejoined node is a member once it logs so, while other stopped nodes may still be down
+                .withClusterMembershipCheck(!rejoining)
                 .withStartupTimeout(Duration.ofSeconds(120L)));
 
         if (extraJarsDir != null) {
@@ -312,11 +486,117 @@ public class VoltDBContainer extends GenericContainer<VoltDBContainer> {
             }
         }
 
+        if (initCacheDir != null) {
+            configureInitCache();
+        }
+
         // START_SCRIPT waiter
         this.withCommand("/bin/bash", "-c",
                 "while [ ! -f /opt/voltdb/tools/entrypoint.sh ]; " +
                 "do sleep 1; done; /opt/voltdb/tools/entrypoint.sh"
         );
+
+        for (String path : initInputs.keySet()) {
+            if (!userPaths.contains(path)) {
+                configuredPaths.add(path);
+            }
+        }
+    }
+
+    private DataDirectory effectiveDataDirectory() {
+        return dataDirectory != null ? dataDirectory : profile == null ? null : profile.dataDirectory();
+    }
+
+    private void modifyCreateContainerCmd(CreateContainerCmd cmd) {
+        cmd.withHostName(hostId);
+        DataDirectory data = effectiveDataDirectory();
+        if (data != null) {
+            data.applyTo(cmd.getHostConfig(), hostId);
+        }
+        applyResourceLimits(cmd.getHostConfig());
+    }
+
+    private void applyResourceLimits(HostConfig hostConfig) {
+        if (cpus != null) {
+            hostConfig.withNanoCPUs(Math.round(cpus * 1_000_000_000L));
+        }
+        if (memoryMb != null) {
+            long bytes = memoryMb * 1024 * 1024;
+            // no swap, so a node over its limit fails instead of slowing down the host
+            hostConfig.withMemory(bytes).withMemorySwap(bytes);
+        }
+        if (cpuset != null) {
+            hostConfig.withCpusetCpus(cpuset);
+        }
+    }
+
+    private void configureInitCache() {
+        Path entry = InitCache.archive(initCacheDir, InitCache.key(getDockerImageName(), initInputs.entrySet()));
+        if (Files.exists(entry)) {
+            withCopyToContainer(MountableFile.forHostPath(entry), InitCache.RESTORE_ARCHIVE);
+            withEnv("VOLTDB_INIT_ARCHIVE", InitCache.RESTORE_ARCHIVE);
+            pendingInitCacheEntry = null;
+        } else {
+            withEnv("VOLTDB_INIT_ARCHIVE_SAVE", InitCache.SAVE_ARCHIVE);
+            pendingInitCacheEntry = entry;
+        }
+    }
+
+    @Override
+    public VoltDBContainer withCopyToContainer(Transferable transferable, String containerPath) {
+        if (!InitCache.RESTORE_ARCHIVE.equals(containerPath)) {
+            initInputs.put(containerPath, transferable);
+        }
+        return super.withCopyToContainer(transferable, containerPath);
+    }
+
+    @Override
+    public VoltDBContainer withClasspathResourceMapping(String resourcePath, String containerPath, BindMode mode) {
+        initInputs.put(containerPath, MountableFile.forClasspathResource(resourcePath));
+        return super.withClasspathResourceMapping(resourcePath, containerPath, mode);
+    }
+
+    /**
+     * Enables or disables the voltdbroot init cache in the default directory,
+     * {@code ~/.voltdb-testcontainer/init-cache}.
+     *
+     * @param enabled true to enable the cache
+     * @return this container instance for method chaining
+     * @see #withInitCache(Path)
+     */
+    public VoltDBContainer withInitCache(boolean enabled) {
+        return withInitCache(enabled ? InitCache.DEFAULT_DIR : null);
+    }
+
+    /**
+     * Caches the initialized voltdbroot on the host so later runs can skip {@code voltdb init}.
+     * <p>
+     * The cache is keyed by a hash of the image name, the deployment, the license, the initial
+     * schemas and classes and any other files copied into the container. The first container
+     * started with a given key runs init as usual and archives the result into {@code cacheDir};
+     * later containers with the same key extract that archive and go straight to
+     * {@code voltdb start}, skipping catalog compilation.
+     *
+     * @param cacheDir host directory holding cached archives, or null to disable the cache
+     * @return this container instance for method chaining
+     */
+    public VoltDBContainer withInitCache(Path cacheDir) {
+        this.initCacheDir = cacheDir;
+        return this;
+    }
+
+    /**
+     * Times the VoltDB phases of each start, such as {@code voltdb init}, mesh join and cluster
+     * initialization, in addition to the docker phases. The entrypoint then logs phase markers
+     * and the container log is scanned for them and for known VoltDB log lines.
+     *
+     * @param enabled true to time the VoltDB phases
+     * @return this container instance for method chaining
+     * @see NodeStartupReport
+     */
+    public VoltDBContainer withStartupReport(boolean enabled) {
+        this.startupReportEnabled = enabled;
+        return this;
     }
 
     /**
@@ -508,6 +788,93 @@ public class VoltDBContainer extends GenericContainer<VoltDBContainer> {
         return this;
     }
 
+    /**
+     * Sets typed deployment settings for this container.
+     * <p>
+     * Without a deployment file the builder produces the whole deployment, using this container's
+     * host count and kfactor unless the builder sets its own. With a deployment file from
+     * {@link #withDeployment(String)} or {@link #withDeploymentContent(String)} the builder's
+     * settings are merged into it. The command log stays disabled on developer edition images.
+     *
+     * @param deploymentBuilder the deployment settings; a copy is kept
+     * @return this container instance for method chaining
+     */
+    public VoltDBContainer withDeployment(DeploymentBuilder deploymentBuilder) {
+        this.deploymentBuilder = deploymentBuilder.copy();
+        return this;
+    }
+
+    /**
+     * Limits the CPU time available to this node. Unless sites per host is set explicitly,
+     * it is sized to the limit.
+     *
+     * @param cpus the number of CPUs, may be fractional
+     * @return this container instance for method chaining
+     * @throws IllegalArgumentException if {@code cpus} is not positive
+     */
+    public VoltDBContainer withCpus(double cpus) {
+        if (!(cpus > 0)) {
+            throw new IllegalArgumentException("cpus must be positive: " + cpus);
+        }
+        this.cpus = cpus;
+        return this;
+    }
+
+    /**
+     * Limits the memory of this node; swap is disabled. Unless a heap size is set explicitly,
+     * the server heap is sized to half the limit, capped at the VoltDB default of 2 GB.
+     *
+     * @param megabytes the memory limit in megabytes
+     * @return this container instance for method chaining
+     * @throws IllegalArgumentException if {@code megabytes} is not positive
+     */
+    public VoltDBContainer withMemory(long megabytes) {
+        if (megabytes < 1) {
+            throw new IllegalArgumentException("megabytes must be positive: " + megabytes);
+        }
+        this.memoryMb = megabytes;
+        return this;
+    }
+
+    /**
+     * Pins this node to the given host CPUs. Unless sites per host is set explicitly,
+     * it is sized to the number of CPUs in the set.
+     *
+     * @param cpuset the CPUs in docker cpuset form, for example {@code 0-3,6}
+     * @return this container instance for method chaining
+     * @throws IllegalArgumentException if the cpuset is malformed
+     */
+    public VoltDBContainer withCpuset(String cpuset) {
+        CpuSet.parse(cpuset);
+        this.cpuset = cpuset;
+        return this;
+    }
+
+    /**
+     * Moves the VoltDB directory, voltdbroot with command logs, snapshots and export overflow,
+     * out of the container's writable layer. Takes precedence over the data directory of a profile.
+     *
+     * @param dataDirectory a tmpfs or named volume, or null to keep data in the container
+     * @return this container instance for method chaining
+     */
+    public VoltDBContainer withDataDirectory(DataDirectory dataDirectory) {
+        this.dataDirectory = dataDirectory;
+        return this;
+    }
+
+    /**
+     * Applies a preset of deployment, JVM and container settings for a kind of test.
+     * Settings from {@link #withDeployment(DeploymentBuilder)} take precedence over the profile's
+     * deployment defaults, which in turn are merged into a deployment file if one is set.
+     *
+     * @param profile the preset to apply, or null to go back to the plain defaults
+     * @return this container instance for method chaining
+     */
+    public VoltDBContainer withProfile(Profile profile) {
+        this.profile = profile;
+        return this;
+    }
+
     /**
      * Sets the start command for the VoltDB container.
      *
@@ -590,6 +957,11 @@ public class VoltDBContainer extends GenericContainer<VoltDBContainer> {
         for (Map.Entry<String, String> e : javaProperties.entrySet()) {
             sb.append(" -D").append(e.getKey()).append('=').append(e.getValue());
         }
+        if (profile != null) {
+            for (String option : profile.jvmOptions()) {
+                sb.append(' ').append(option);
+            }
+        }
         return sb.toString();
     }
 
@@ -624,6 +996,64 @@ public class VoltDBContainer extends GenericContainer<VoltDBContainer> {
         return result;
     }
 
+    @Override
+    protected void containerIsStarting(InspectContainerResponse containerInfo, boolean reused) {
+        startupReport.mark(NodeStartupReport.Event.STARTING);
+        this.reused = reused;
+        if (reused) {
+            // already running its entrypoint; nothing to copy in
+            containerName = containerInfo.getName().replace("/", "");
+            System.out.println("Reusing running container: " + containerName);
+            return;
+        }
+        super.containerIsStarting(containerInfo, reused);
+    }
+
+    /**
+     * Returns whether the last start attached to an already running container instead of
+     * starting a new one. Requires {@code testcontainers.reuse.enable=true} in
+     * {@code ~/.testcontainers.properties}.
+     *
+     * @return true if the running container was reused
+     */
+    public boolean isReused() {
+        return reused;
+    }
+
+    /**
+     * @return the deployment copied in by the last {@link #configure()}, or null before the first
+     */
+    String getConfiguredDeployment() {
+        return configuredDeployment;
+    }
+
+    /**
+     * Fingerprint of everything that shapes this node: image, topology, deployment, start command,
+     * JVM properties and the contents of every file copied in.
+     * <p>
+     * The files configure() copies in are hashed from their sources rather than from what the last
+     * configure() copied, so the fingerprint is the same before and after a start.
+     *
+     * @return a hex-encoded SHA-256 digest
+     */
+    String configurationFingerprint() {
+        String settings = String.join("\n", hostId, String.valueOf(hostcount), String.valueOf(kfactor),
+                String.valueOf(commandLogEnabled), String.valueOf(startCommand), String.valueOf(profile),
+                cpus + "/" + memoryMb + "/" + cpuset, String.valueOf(dataDirectory),
+                getDeployment(), buildVoltdbOpts(), String.valueOf(licensePath), String.valueOf(extraJarsDir));
+        List<Map.Entry<String, Transferable>> inputs = initInputs.entrySet().stream()
+                .filter(entry -> !configuredPaths.contains(entry.getKey()))
+                .collect(Collectors.toCollection(ArrayList::new));
+        if (licensePath != null && Files.isRegularFile(Path.of(licensePath))) {
+            inputs.add(Map.entry("license", MountableFile.forHostPath(licensePath)));
+        }
+        if (extraJarsDir != null && Files.isDirectory(Path.of(extraJarsDir))) {
+            inputs.add(Map.entry("extraJars", MountableFile.forHostPath(extraJarsDir)));
+        }
+        inputs.add(Map.entry("settings", Transferable.of(settings)));
+        return InitCache.key(getDockerImageName(), inputs);
+    }
+
     @Override
     protected void containerIsStarting(InspectContainerResponse containerInfo) {
         super.containerIsStarting(containerInfo);
@@ -636,6 +1066,7 @@ public class VoltDBContainer extends GenericContainer<VoltDBContainer> {
         // It's twice here because the script has an echo.
         String finalScript = String.format(startScript, topicSetting, drSetting);
         copyFileToContainer(Transferable.of(finalScript, 511), "/opt/voltdb/tools/entrypoint.sh");
+        startupReport.mark(NodeStartupReport.Event.ENTRYPOINT_COPIED);
     }
 
     private String getPublicInterfaceSetting(InspectContainerResponse containerInfo, String maybePublicInterface, int port) {
@@ -661,6 +1092,14 @@ public class VoltDBContainer extends GenericContainer<VoltDBContainer> {
         return publicInterface + ":" + actualPort;
     }
 
+    @Override
+    protected void containerIsStarted(InspectContainerResponse containerInfo) {
+        super.containerIsStarted(containerInfo);
+        if (pendingInitCacheEntry != null) {
+            InitCache.store(this, pendingInitCacheEntry);
+        }
+    }
+
     @Override
     protected void containerIsStopping(InspectContainerResponse containerInfo) {
         super.containerIsStopping(containerInfo);
@@ -670,6 +1109,7 @@ public class VoltDBContainer extends GenericContainer<VoltDBContainer> {
     @Override
     protected void containerIsStopped(InspectContainerResponse containerInfo) {
         super.containerIsStopped(containerInfo);
+        closeAsyncClient();
         System.out.println("Container is stopped: " + getContainerName());
     }
 
@@ -729,6 +1169,100 @@ public class VoltDBContainer extends GenericContainer<VoltDBContainer> {
         return client.callProcedure(proc, params);
     }
 
+    /**
+     * Calls a stored procedure asynchronously, connecting a {@link Client2} on first use.
+     *
+     * @param proc   the name of the stored procedure to call
+     * @param params the parameters to pass to the stored procedure
+     * @return a future completed with the procedure response, or exceptionally if the call fails
+     */
+    public CompletableFuture<ClientResponse> callProcedureAsync(String proc, Object... params) {
+        try {
+            return asyncClient().callProcedureAsync(proc, params);
+        } catch (IOException e) {
+            return CompletableFuture.failedFuture(e);
+        }
+    }
+
+    /**
+     * Calls each of the given procedures asynchronously, keeping a bounded number of calls in flight.
+     * The calling thread blocks whenever {@code maxInFlight} calls are outstanding.
+     *
+     * @param invocations the procedure calls to make, consumed lazily
+     * @param maxInFlight the maximum number of calls outstanding at any time, capped at 1000
+     * @return a future completed with the responses in invocation order once all calls complete,
+     * or exceptionally with the first failure
+     * @throws IllegalArgumentException if {@code maxInFlight} is less than 1
+     * @see VoltDBCluster#callProceduresAsync(Iterator, int)
+     */
+    public CompletableFuture<List<ClientResponse>> callProceduresAsync(Iterator<ProcedureInvocation> invocations,
+                                                                       int maxInFlight) {
+        try {
+            return ProcedurePipeline.submit(asyncClient(), invocations, maxInFlight);
+        } catch (IOException e) {
+            return CompletableFuture.failedFuture(e);
+        }
+    }
+
+    /**
+     * Calls each of the given procedures asynchronously, keeping a bounded number of calls in flight,
+     * and hands each response to {@code onResponse} instead of keeping it.
+     *
+     * @param invocations the procedure calls to make, consumed lazily
+     * @param maxInFlight the maximum number of calls outstanding at any time, capped at 1000
+     * @param onResponse  called with each successful response, on a client thread
+     * @return a future completed with the number of calls made once all calls complete,
+     * or exceptionally with the first failure
+     * @throws IllegalArgumentException if {@code maxInFlight} is less than 1
+     * @see VoltDBCluster#callProceduresAsync(Iterator, int, Consumer)
+     */
+    public CompletableFuture<Long> callProceduresAsync(Iterator<ProcedureInvocation> invocations, int maxInFlight,
+                                                       Consumer<ClientResponse> onResponse) {
+        try {
+            return ProcedurePipeline.submit(asyncClient(), invocations, maxInFlight, onResponse);
+        } catch (IOException e) {
+            return CompletableFuture.failedFuture(e);
+        }
+    }
+
+    /**
+     * Calls each of the given procedures asynchronously, keeping a bounded number of calls in flight.
+     *
+     * @param invocations the procedure calls to make, consumed lazily
+     * @param maxInFlight the maximum number of calls outstanding at any time
+     * @return a future completed with the responses in invocation order
+     * @see #callProceduresAsync(Iterator, int)
+     */
+    public CompletableFuture<List<ClientResponse>> callProceduresAsync(Stream<ProcedureInvocation> invocations,
+                                                                       int maxInFlight) {
+        return callProceduresAsync(invocations.iterator(), maxInFlight);
+    }
+
+    /**
+     * Calls each of the given procedures asynchronously, keeping up to 500 calls in flight.
+     *
+     * @param invocations the procedure calls to make
+     * @return a future completed with the responses in invocation order
+     * @see #callProceduresAsync(Iterator, int)
+     */
+    public CompletableFuture<List<ClientResponse>> callProceduresAsync(List<ProcedureInvocation> invocations) {
+        return callProceduresAsync(invocations.iterator(), ProcedurePipeline.DEFAULT_WINDOW);
+    }
+
+    private synchronized Client2 asyncClient() throws IOException {
+        if (asyncClient2 == null) {
+            asyncClient2 = getConnectedClient2();
+        }
+        return asyncClient2;
+    }
+
+    private synchronized void closeAsyncClient() {
+        if (asyncClient2 != null) {
+            asyncClient2.close();
+            asyncClient2 = null;
+        }
+    }
+
     /**
      * Retrieves a connected client to the VoltDB instance with a default timeout of 120000 milliseconds.
      *
@@ -748,36 +1282,71 @@ public class VoltDBContainer extends GenericContainer<VoltDBContainer> {
      */
     public Client getConnectedClient(int timeoutMillis) throws IOException {
         int mappedPort = getMappedPort(VOLTDB_CLIENT_PORT);
-        ClientConfig config = new ClientConfig(username, password);
-        if (tlsEnabled) {
-            config.enableSSL();
-            if (keyStorePath == null || keyStorePath.isEmpty()) {
-                config.setTrustStore(trustStorePath, trustStorePassword);
-            } else {
-                config.setTrustStoreWithMutualAuth(trustStorePath, trustStorePassword, keyStorePath, keyStorePassword);
-            }
-        }
+        ClientConfig config = newClientConfig();
         long st = System.currentTimeMillis();
         while (System.currentTimeMillis() < st + timeoutMillis) {
-            client = ClientFactory.createClient(config);
+            Client candidate = ClientFactory.createClient(config);
             try {
-                client.createConnection("localhost:" + mappedPort);
-                ClientResponse response = client.callProcedure("@Ping");
+                candidate.createConnection("localhost:" + mappedPort);
+                ClientResponse response = candidate.callProcedure("@Ping");
                 if (response.getStatus() == ClientResponse.SUCCESS) {
+                    startupReport.mark(NodeStartupReport.Event.PINGED);
+                    client = candidate;
                     return client;
                 }
-                Thread.sleep(5000);
-            } catch (IOException | InterruptedException | ProcCallException e) {
-                try {
-                    Thread.sleep(5000);
-                } catch (InterruptedException ex) {
-                    //Ignore
-                }
+            } catch (IOException | ProcCallException e) {
+                // server not accepting connections yet, retry below
+            }
+            closeQuietly(candidate);
+            try {
+                Thread.sleep(CONNECT_RETRY_MILLIS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new IOException("Interrupted while connecting to VoltDB", e);
             }
         }
         throw new IOException("Could not connect to VoltDB, Server may have failed to start");
     }
 
+    private static void closeQuietly(Client client) {
+        try {
+            client.close();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    /**
+     * Creates a {@link ClientConfig} carrying this container's credentials and TLS settings.
+     *
+     * @return a new client configuration
+     */
+    ClientConfig newClientConfig() {
+        ClientConfig config = new ClientConfig(username, password);
+        if (tlsEnabled) {
+            config.enableSSL();
+            if (keyStorePath == null || keyStorePath.isEmpty()) {
+                config.setTrustStore(trustStorePath, trustStorePassword);
+            } else {
+                config.setTrustStoreWithMutualAuth(trustStorePath, trustStorePassword, keyStorePath, keyStorePassword);
+            }
+        }
+        return config;
+    }
+
+    /**
+     * Creates a {@link Client2Config} carrying this container's credentials and TLS settings.
+     *
+     * @return a new client configuration
+     */
+    Client2Config newClient2Config() {
+        Client2Config config = new Client2Config()
+                .username(username)
+                .password(password);
+        applyClient2SslConfig(config);
+        return config;
+    }
+
     /**
      * Retrieves a connected Client2 to the VoltDB instance with a default timeout of 120000 milliseconds.
      *
@@ -789,7 +1358,8 @@ public class VoltDBContainer extends GenericContainer<VoltDBContainer> {
     }
 
     /**
-     * Retrieves a connected Client2 to the VoltDB instance.
+     * Retrieves a connected Client2 to the VoltDB instance. Each call connects a new client,
+     * which the caller owns and must close.
      *
      * @param timeoutMillis time to wait for a client connection
      * @return a {@link Client2} object
@@ -797,21 +1367,19 @@ public class VoltDBContainer extends GenericContainer<VoltDBContainer> {
      */
     public Client2 getConnectedClient2(int timeoutMillis) throws IOException {
         int mappedPort = getMappedPort(VOLTDB_CLIENT_PORT);
-        Client2Config config = new Client2Config()
-                .username(username)
-                .password(password);
-        applyClient2SslConfig(config);
-        int retries = Math.max(1, timeoutMillis / 5000);
-        client2 = ClientFactory.createClient(config);
+        Client2 candidate = ClientFactory.createClient(newClient2Config());
         try {
-            client2.connectSync("localhost:" + mappedPort, retries, 5, TimeUnit.SECONDS);
-            ClientResponse response = client2.callProcedureSync("@Ping");
+            candidate.connectSync("localhost:" + mappedPort, timeoutMillis, CONNECT_RETRY_MILLIS, TimeUnit.MILLISECONDS);
+            ClientResponse response = candidate.callProcedureSync("@Ping");
             if (response.getStatus() == ClientResponse.SUCCESS) {
-                return client2;
+                startupReport.mark(NodeStartupReport.Event.PINGED);
+                return candidate;
             }
         } catch (IOException | ProcCallException e) {
+            candidate.close();
             throw new IOException("Could not connect to VoltDB, Server may have failed to start", e);
         }
+        candidate.close();
         throw new IOException("Could not connect to VoltDB, Server may have failed to start");
     }
 
@@ -935,13 +1503,57 @@ public class VoltDBContainer extends GenericContainer<VoltDBContainer> {
         this.client = client;
     }
 
+    /**
+     * Returns the number of hosts this container expects in its cluster.
+     *
+     * @return the cluster host count
+     */
+    int getHostCount() {
+        return hostcount;
+    }
+
     private static boolean isDevImage(String image) {
         return image != null && image.toLowerCase().contains("developer");
     }
 
     private String getDeployment() {
-        String commandLogElement = commandLogEnabled ? "" : "    <commandlog enabled=\"false\"/>\n";
-        return String.format(deploymentTemplate, hostcount, kfactor, commandLogElement);
+        if (deployment != null && deploymentBuilder == null && profile == null) {
+            return deployment;
+        }
+        DeploymentBuilder builder = deploymentSettings();
+        if (!commandLogEnabled) {
+            builder.withCommandLogEnabled(false);
+        }
+        if (deployment != null) {
+            return builder.mergeInto(deployment);
+        }
+        if (builder.getHostCount() == null) {
+            builder.withHostCount(hostcount);
+        }
+        if (builder.getKfactor() == null) {
+            builder.withKfactor(kfactor);
+        }
+        if (builder.getSitesPerHost() == null && (cpus != null || cpuset != null)) {
+            builder.withSitesPerHost(cpusPerNode());
+        }
+        return builder.build();
+    }
+
+    private DeploymentBuilder deploymentSettings() {
+        DeploymentBuilder base = profile == null ? new DeploymentBuilder() : profile.deployment(cpusPerNode());
+        return deploymentBuilder == null ? base : base.overlay(deploymentBuilder);
+    }
+
+    private int cpusPerNode() {
+        if (cpuset != null) {
+            int pinned = CpuSet.parse(cpuset).size();
+            return cpus == null ? pinned : Math.max(1, Math.min(pinned, (int) Math.floor(cpus)));
+        }
+        if (cpus != null) {
+            return Math.max(1, (int) Math.floor(cpus));
+        }
+        // nodes of a cluster share the docker host
+        return Math.max(1, Runtime.getRuntime().availableProcessors() / Math.max(1, hostcount));
     }
 
     /**
@@ -0,0 +1,131 @@
+/*
+ * Copyright (C) 2025-2026 Volt Active Data Inc.
+ *
+ * Use of this source code is governed by an MIT
+ * license that can be found in the LICENSE file or at
+ * https://opensource.org/licenses/MIT.
+ */
+package org.voltdbtest.testcontainer;
+
+import org.junit.jupiter.api.extension.BeforeEachCallback;
+import org.junit.jupiter.api.extension.ExtensionConfigurationException;
+import org.junit.jupiter.api.extension.ExtensionContext;
+import org.junit.jupiter.api.extension.ParameterContext;
+import org.junit.jupiter.api.extension.ParameterResolutionException;
+import org.junit.jupiter.api.extension.ParameterResolver;
+import org.junit.platform.commons.support.AnnotationSupport;
+import org.voltdb.client.ProcCallException;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.Arrays;
+
+/**
+ * JUnit 5 extension behind {@link VoltDBTest}: starts, shares, resets and shuts down the
+ * {@link VoltDBCluster} of a test and resolves {@link VoltDBCluster} parameters.
+ * <p>
+ * Clusters are kept in the JUnit store of the context matching their scope, the test method,
+ * the test class or the whole run, and are shut down when that context closes.
+ */
+public class VoltDBExtension implements BeforeEachCallback, ParameterResolver {
+
+    private static final ExtensionContext.Namespace NAMESPACE = ExtensionContext.Namespace.create(VoltDBExtension.class);
+
+    @Override
+    public void beforeEach(ExtensionContext context) {
+        VoltDBTest config = config(context);
+        if (config.scope() == VoltDBTest.Scope.METHOD || !config.resetBetweenTests()) {
+            return;
+        }
+        try {
+            cluster(context, config).truncateTables();
+        } catch (IOException | ProcCallException e) {
+            throw new ExtensionConfigurationException("Could not reset VoltDB cluster between tests", e);
+        }
+    }
+
+    @Override
+    public boolean supportsParameter(ParameterContext parameterContext, ExtensionContext extensionContext) {
+        return parameterContext.getParameter().getType() == VoltDBCluster.class;
+    }
+
+    @Override
+    public Object resolveParameter(ParameterContext parameterContext, ExtensionContext extensionContext) {
+        VoltDBTest config = config(extensionContext);
+        if (config.scope() == VoltDBTest.Scope.METHOD && extensionContext.getTestMethod().isEmpty()) {
+            throw new ParameterResolutionException(
+                    "A METHOD scoped VoltDBCluster can only be injected into test methods and @BeforeEach/@AfterEach methods");
+        }
+        return cluster(extensionContext, config);
+    }
+
+    private static VoltDBTest config(ExtensionContext context) {
+        for (Class<?> type = context.getRequiredTestClass(); type != null; type = type.getEnclosingClass()) {
+            VoltDBTest config = AnnotationSupport.findAnnotation(type, VoltDBTest.class).orElse(null);
+            if (config != null) {
+                return config;
+            }
+        }
+        throw new ExtensionConfigurationException("VoltDBExtension requires a @VoltDBTest annotation");
+    }
+
+    private static VoltDBCluster cluster(ExtensionContext context, VoltDBTest config) {
+        ExtensionContext owner;
+        switch (config.scope()) {
+            case METHOD:
+                owner = context;
+                break;
+            case SUITE:
+                owner = context.getRoot();
+                break;
+            default:
+                owner = context;
+                while (owner.getTestMethod().isPresent() && owner.getParent().isPresent()) {
+                    owner = owner.getParent().get();
+                }
+                break;
+        }
+        return owner.getStore(NAMESPACE)
+                .getOrComputeIfAbsent(key(config), key -> new ClusterResource(start(config)), ClusterResource.class)
+                .cluster;
+    }
+
+    private static String key(VoltDBTest config) {
+        return String.join("|", String.valueOf(config.hosts()), String.valueOf(config.kfactor()), config.image(),
+                config.license(), Arrays.toString(config.schema()), Arrays.toString(config.classes()));
+    }
+
+    private static VoltDBCluster start(VoltDBTest config) {
+        VoltDBCluster cluster = new VoltDBCluster(config.license().isEmpty() ? null : config.license(),
+                config.image(), config.hosts(), config.kfactor());
+        for (String schema : config.schema()) {
+            cluster.withInitialSchema(schema);
+        }
+        for (String jar : config.classes()) {
+            cluster.withInitialClasses(jar, Path.of(jar).getFileName().toString());
+        }
+        try {
+            cluster.start();
+        } catch (IOException e) {
+            cluster.shutdown();
+            throw new ExtensionConfigurationException("Could not start VoltDB cluster for @VoltDBTest", e);
+        }
+        return cluster;
+    }
+
+    /**
+     * Shuts the cluster down when the owning JUnit context closes.
+     */
+    private static final class ClusterResource implements ExtensionContext.Store.CloseableResource {
+        private final VoltDBCluster cluster;
+
+        private ClusterResource(VoltDBCluster cluster) {
+            this.cluster = cluster;
+        }
+
+        @Override
+        public void close() {
+            cluster.shutdown();
+        }
+    }
+}
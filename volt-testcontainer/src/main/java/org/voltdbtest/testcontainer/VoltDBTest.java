@@ -0,0 +1,101 @@
+/*
+ * Copyright (C) 2025-2026 Volt Active Data Inc.
+ *
+ * Use of this source code is governed by an MIT
+ * license that can be found in the LICENSE file or at
+ * https://opensource.org/licenses/MIT.
+ */
+package org.voltdbtest.testcontainer;
+
+import org.junit.jupiter.api.extension.ExtendWith;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Inherited;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Runs a JUnit 5 test class against a {@link VoltDBCluster} managed by {@link VoltDBExtension}.
+ * <p>
+ * Test methods, constructors and lifecycle methods receive the cluster by declaring a
+ * {@link VoltDBCluster} parameter. The cluster is started on first use and shut down at the end
+ * of its {@link #scope()}; with a shared scope every user table is truncated before each test,
+ * so tests see an empty database with the schema in place.
+ *
+ * <pre>{@code
+ * @VoltDBTest(hosts = 3, kfactor = 1, schema = "schema.ddl", classes = "target/procedures.jar")
+ * class OrdersIT {
+ *     @Test
+ *     void placesOrder(VoltDBCluster cluster) throws Exception {
+ *         cluster.callProcedure("PlaceOrder", 1, 42);
+ *     }
+ * }
+ * }</pre>
+ */
+@Documented
+@Inherited
+@Target(ElementType.TYPE)
+@Retention(RetentionPolicy.RUNTIME)
+@ExtendWith(VoltDBExtension.class)
+public @interface VoltDBTest {
+
+    /**
+     * How long a cluster lives and which tests share it.
+     */
+    enum Scope {
+        /**
+         * A new cluster for every test method.
+         */
+        METHOD,
+        /**
+         * One cluster for all tests of a class.
+         */
+        CLASS,
+        /**
+         * One cluster for all test classes of the run that declare the same settings.
+         */
+        SUITE
+    }
+
+    /**
+     * @return the number of nodes
+     */
+    int hosts() default 1;
+
+    /**
+     * @return the kfactor of the cluster
+     */
+    int kfactor() default 0;
+
+    /**
+     * @return the VoltDB image
+     */
+    String image() default "voltdb/voltdb-enterprise";
+
+    /**
+     * @return path of the license file; empty to search the standard locations
+     */
+    String license() default "";
+
+    /**
+     * @return classpath resources with DDL to load when the cluster is initialized
+     */
+    String[] schema() default {};
+
+    /**
+     * @return paths of jars with stored procedure classes to load when the cluster is initialized
+     */
+    String[] classes() default {};
+
+    /**
+     * @return the lifetime of the cluster
+     */
+    Scope scope() default Scope.CLASS;
+
+    /**
+     * @return true to truncate all user tables before each test of a shared cluster
+     */
+    boolean resetBetweenTests() default true;
+}
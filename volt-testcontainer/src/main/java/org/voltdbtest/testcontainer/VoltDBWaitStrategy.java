@@ -0,0 +1,136 @@
+/*
+ * Copyright (C) 2025-2026 Volt Active Data Inc.
+ *
+ * Use of this source code is governed by an MIT
+ * license that can be found in the LICENSE file or at
+ * https://opensource.org/licenses/MIT.
+ */
+package org.voltdbtest.testcontainer;
+
+import org.testcontainers.containers.ContainerLaunchException;
+import org.testcontainers.containers.wait.strategy.AbstractWaitStrategy;
+import org.testcontainers.containers.wait.strategy.LogMessageWaitStrategy;
+import org.voltdb.VoltTable;
+import org.voltdb.client.Client2;
+import org.voltdb.client.ClientFactory;
+import org.voltdb.client.ClientResponse;
+import org.voltdb.client.ProcCallException;
+
+import java.io.IOException;
+import java.util.HashSet;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Waits until a VoltDB server is really ready to accept work.
+ * <p>
+ * The container log is streamed and the strategy completes as soon as VoltDB reports
+ * {@code Server completed initialization}. When the target is a {@link VoltDBContainer}
+ * that belongs to a multi-node cluster, {@code @SystemInformation} is then polled until
+ * every expected host has joined.
+ */
+public class VoltDBWaitStrategy extends AbstractWaitStrategy {
+
+    /**
+     * Log line VoltDB prints once the server has finished starting up.
+     */
+    public static final String READY_MESSAGE = "(?s).*Server completed initialization.*";
+
+    /**
+     * Log line VoltDB prints once a restarted node has rejoined its cluster.
+     */
+    public static final String REJOIN_MESSAGE = "(?s).*(Server completed initialization|Node rejoin completed).*";
+
+    private static final long POLL_INTERVAL_MILLIS = 100;
+
+    private String readyMessage = READY_MESSAGE;
+    private boolean checkClusterMembership = true;
+
+    /**
+     * Sets the regular expression matched against each log line to detect readiness.
+     *
+     * @param regex the regular expression to match
+     * @return this wait strategy
+     */
+    public VoltDBWaitStrategy withReadyMessage(String regex) {
+        this.readyMessage = regex;
+        return this;
+    }
+
+    /**
+     * Enables or disables the {@code @SystemInformation} check that all hosts have joined.
+     *
+     * @param enabled true to confirm cluster membership after the log message is seen
+     * @return this wait strategy
+     */
+    public VoltDBWaitStrategy withClusterMembershipCheck(boolean enabled) {
+        this.checkClusterMembership = enabled;
+        return this;
+    }
+
+    @Override
+    protected void waitUntilReady() {
+        long deadline = System.currentTimeMillis() + startupTimeout.toMillis();
+
+        new LogMessageWaitStrategy()
+                .withRegEx(readyMessage)
+                .withStartupTimeout(startupTimeout)
+                .waitUntilReady(waitStrategyTarget);
+
+        if (checkClusterMembership && waitStrategyTarget instanceof VoltDBContainer) {
+            VoltDBContainer container = (VoltDBContainer) waitStrategyTarget;
+            if (container.getHostCount() > 1) {
+                waitForAllHosts(container, deadline);
+            }
+        }
+    }
+
+    private void waitForAllHosts(VoltDBContainer container, long deadline) {
+        String server = container.getHost() + ":" + container.getMappedPort(VoltDBContainer.VOLTDB_CLIENT_PORT);
+        Client2 client = ClientFactory.createClient(container.newClient2Config());
+        try {
+            client.connectSync(server, Math.max(1, deadline - System.currentTimeMillis()),
+                    POLL_INTERVAL_MILLIS, TimeUnit.MILLISECONDS);
+            waitForHosts(client, container.getHostCount(), deadline);
+        } catch (IOException | ProcCallException e) {
+            throw new ContainerLaunchException("Could not confirm VoltDB cluster membership on " + server, e);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new ContainerLaunchException("Interrupted waiting for VoltDB cluster membership", e);
+        } finally {
+            client.close();
+        }
+    }
+
+    /**
+     * Polls {@code @SystemInformation} on a connected client until {@code expected} hosts have joined.
+     *
+     * @param client   a client connected to the node being started
+     * @param expected the number of hosts the cluster must have
+     * @param deadline the time, in epoch milliseconds, to give up at
+     * @throws ContainerLaunchException if fewer hosts have joined by the deadline
+     */
+    void waitForHosts(Client2 client, int expected, long deadline)
+            throws IOException, ProcCallException, InterruptedException {
+        int joined = 0;
+        while (System.currentTimeMillis() < deadline) {
+            joined = countHosts(client.callProcedureSync("@SystemInformation", "OVERVIEW"));
+            if (joined >= expected) {
+                return;
+            }
+            Thread.sleep(POLL_INTERVAL_MILLIS);
+        }
+        throw new ContainerLaunchException(String.format(
+                "Timed out after %s waiting for %d VoltDB hosts to join, saw %d",
+                startupTimeout, expected, joined));
+    }
+
+    private static int countHosts(ClientResponse response) {
+        Set<Long> hostIds = new HashSet<>();
+        VoltTable overview = response.getResults()[0];
+        while (overview.advanceRow()) {
+            hostIds.add(overview.getLong("HOST_ID"));
+        }
+        return hostIds.size();
+    }
+}
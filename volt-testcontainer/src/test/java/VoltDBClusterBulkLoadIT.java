@@ -0,0 +1,99 @@
+/*
+ * Copyright (C) 2025-2026 Volt Active Data Inc.
+ *
+ * Use of this source code is governed by an MIT
+ * license that can be found in the LICENSE file or at
+ * https://opensource.org/licenses/MIT.
+ */
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.voltdb.client.ProcCallException;
+import org.voltdbtest.testcontainer.BulkLoadReport;
+import org.voltdbtest.testcontainer.VoltDBCluster;
+
+import java.io.IOException;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Integration tests for {@link VoltDBCluster#bulkLoad(String, Stream)}.
+ *
+ * <p>Loads a partitioned and a replicated table on a 2-node cluster, each with
+ * one row that repeats a primary key, and checks that the bad row is reported
+ * without stopping the load.
+ */
+public class VoltDBClusterBulkLoadIT extends TestBase {
+
+    private static final int ROWS = 5000;
+
+    private VoltDBCluster cluster;
+
+    @AfterEach
+    public void tearDown() {
+        if (cluster != null) {
+            cluster.shutdown();
+            cluster = null;
+        }
+    }
+
+    /** Every row of a partitioned table is loaded except the one repeating a primary key. */
+    @Test
+    public void testBulkLoadPartitionedTable() throws IOException, ProcCallException {
+        startCluster();
+
+        BulkLoadReport report = cluster.bulkLoad("bulk_items", rowsWithOneDuplicate());
+
+        assertEquals(ROWS + 1, report.getRowsSubmitted());
+        assertEquals(1, report.getRowsFailed(), "The repeated primary key must be rejected: " + report);
+        assertEquals(ROWS, report.getRowsLoaded());
+        assertEquals(1, report.getFailures().size());
+        assertFalse(report.isSuccess());
+        assertEquals(ROWS, rowCount("bulk_items"));
+    }
+
+    /** A replicated table is loaded through the multi-partition path with the same accounting. */
+    @Test
+    public void testBulkLoadReplicatedTable() throws IOException, ProcCallException {
+        startCluster();
+
+        BulkLoadReport report = cluster.bulkLoad("bulk_regions", rowsWithOneDuplicate());
+
+        assertEquals(ROWS + 1, report.getRowsSubmitted());
+        assertEquals(1, report.getRowsFailed(), "The repeated primary key must be rejected: " + report);
+        assertEquals(ROWS, rowCount("bulk_regions"));
+    }
+
+    /** Upserting the same rows again replaces them without failures. */
+    @Test
+    public void testBulkUpsert() throws IOException, ProcCallException {
+        startCluster();
+        cluster.bulkLoad("bulk_items", IntStream.range(0, ROWS).mapToObj(id -> new Object[]{id, "item-" + id}));
+
+        BulkLoadReport report = cluster.bulkLoad("bulk_items",
+                IntStream.range(0, ROWS).mapToObj(id -> new Object[]{id, "item-" + id}).iterator(), 100, true);
+
+        assertTrue(report.isSuccess(), "Upserts must not fail: " + report);
+        assertEquals(ROWS, rowCount("bulk_items"));
+    }
+
+    private void startCluster() throws IOException, ProcCallException {
+        cluster = new VoltDBCluster(validLicensePath, VOLTDB_IMAGE, 2, 0);
+        cluster.start();
+        cluster.runDDL("CREATE TABLE bulk_items (id INTEGER NOT NULL, name VARCHAR(32) NOT NULL, PRIMARY KEY(id));\n"
+                       + "PARTITION TABLE bulk_items ON COLUMN id;\n"
+                       + "CREATE TABLE bulk_regions (id INTEGER NOT NULL, name VARCHAR(32) NOT NULL, PRIMARY KEY(id));");
+    }
+
+    // ROWS distinct rows, with the middle one sent twice
+    private static Stream<Object[]> rowsWithOneDuplicate() {
+        return Stream.concat(IntStream.range(0, ROWS).mapToObj(id -> new Object[]{id, "item-" + id}),
+                Stream.<Object[]>of(new Object[]{ROWS / 2, "duplicate"}));
+    }
+
+    private long rowCount(String table) throws IOException, ProcCallException {
+        return cluster.callProcedure("@AdHoc", "SELECT COUNT(*) FROM " + table + ";")
+                .getResults()[0].fetchRow(0).getLong(0);
+    }
+}
@@ -0,0 +1,102 @@
+/*
+ * Copyright (C) 2025-2026 Volt Active Data Inc.
+ *
+ * Use of this source code is governed by an MIT
+ * license that can be found in the LICENSE file or at
+ * https://opensource.org/licenses/MIT.
+ */
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.voltdb.VoltTable;
+import org.voltdb.client.ProcCallException;
+import org.voltdbtest.testcontainer.ExpansionReport;
+import org.voltdbtest.testcontainer.ShutdownReport;
+import org.voltdbtest.testcontainer.VoltDBCluster;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Integration tests for elastic expansion with {@link VoltDBCluster#addNodes(int)}.
+ *
+ * <p>Grows a 2-node k=1 cluster by one group of two nodes and checks that the
+ * new nodes are cluster members, that no data is lost by the rebalance, and
+ * that the cluster keeps accepting transactions through the shared client.
+ */
+public class VoltDBClusterExpansionIT extends TestBase {
+
+    private static final int ROWS = 1000;
+
+    private VoltDBCluster cluster;
+
+    @AfterEach
+    public void tearDown() {
+        if (cluster != null) {
+            cluster.shutdown();
+            cluster = null;
+        }
+    }
+
+    /** addNodes(2) on a k=1 cluster joins host-2 and host-3 and keeps every row. */
+    @Test
+    public void testAddNodes() throws IOException, ProcCallException {
+        cluster = new VoltDBCluster(validLicensePath, VOLTDB_IMAGE, 2, 1);
+        cluster.start();
+        cluster.runDDL("CREATE TABLE expansion_items (id INTEGER NOT NULL, PRIMARY KEY(id));\n"
+                       + "PARTITION TABLE expansion_items ON COLUMN id;");
+        for (int id = 0; id < ROWS; id++) {
+            cluster.callProcedure("EXPANSION_ITEMS.insert", id);
+        }
+
+        ExpansionReport report = cluster.addNodes(2);
+
+        assertEquals(List.of("host-2", "host-3"), report.getAddedHosts());
+        assertTrue(report.getJoinDuration().toMillis() > 0, "Join duration must be measured");
+        assertEquals(4, memberCount(), "All four nodes must be cluster members");
+        assertEquals(ROWS, cluster.callProcedure("@AdHoc", "SELECT COUNT(*) FROM expansion_items;")
+                .getResults()[0].fetchRow(0).getLong(0), "Rebalance must not lose rows");
+
+        // the shared client reaches the new nodes too
+        cluster.callProcedure("EXPANSION_ITEMS.insert", ROWS);
+        assertNotNull(cluster.getClient2("host-3"), "Client2 for a new node must not be null");
+    }
+
+    /** Nodes added by addNodes() are torn down concurrently with the original ones. */
+    @Test
+    public void testShutdownAfterAddNodes() throws IOException {
+        cluster = new VoltDBCluster(validLicensePath, VOLTDB_IMAGE, 1, 0);
+        cluster.start();
+        cluster.addNodes(2);
+
+        ShutdownReport report = cluster.shutdown(false, Duration.ofSeconds(60));
+        cluster = null; // prevent double-shutdown in tearDown
+
+        assertEquals(Set.of("host-0", "host-1", "host-2"), report.getNodeElapsed().keySet(),
+                "Every node, added or not, must be torn down");
+        assertTrue(report.getFailedNodes().isEmpty(), "No stop may wait behind another: " + report);
+    }
+
+    /** The number of nodes added must be a positive multiple of kfactor + 1. */
+    @Test
+    public void testAddNodesRejectsPartialGroups() throws IOException {
+        cluster = new VoltDBCluster(validLicensePath, VOLTDB_IMAGE, 2, 1);
+        cluster.start();
+
+        assertThrows(IllegalArgumentException.class, () -> cluster.addNodes(1));
+        assertThrows(IllegalArgumentException.class, () -> cluster.addNodes(0));
+    }
+
+    private int memberCount() throws IOException, ProcCallException {
+        VoltTable overview = cluster.callProcedure("@SystemInformation", "OVERVIEW").getResults()[0];
+        Set<Long> hosts = new HashSet<>();
+        while (overview.advanceRow()) {
+            hosts.add(overview.getLong("HOST_ID"));
+        }
+        return hosts.size();
+    }
+}
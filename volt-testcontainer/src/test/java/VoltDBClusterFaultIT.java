@@ -0,0 +1,137 @@
+/*
+ * Copyright (C) 2025-2026 Volt Active Data Inc.
+ *
+ * Use of this source code is governed by an MIT
+ * license that can be found in the LICENSE file or at
+ * https://opensource.org/licenses/MIT.
+ */
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.voltdb.VoltTable;
+import org.voltdb.client.ProcCallException;
+import org.voltdbtest.testcontainer.NodeFaultReport;
+import org.voltdbtest.testcontainer.VoltDBCluster;
+
+import java.io.IOException;
+import java.util.HashSet;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Integration tests for node faults on a k-safe {@link VoltDBCluster}.
+ *
+ * <p>Kills or stops one node of a 3-node k=1 cluster, checks that the survivors
+ * keep every row and accept transactions, then rejoins the node and checks that
+ * it is a cluster member again.
+ */
+public class VoltDBClusterFaultIT extends TestBase {
+
+    private static final int ROWS = 500;
+
+    private VoltDBCluster cluster;
+
+    @AfterEach
+    public void tearDown() {
+        if (cluster != null) {
+            cluster.shutdown();
+            cluster = null;
+        }
+    }
+
+    /** killNode() is survived by a k=1 cluster, and rejoinNode() brings the node back. */
+    @Test
+    public void testKillAndRejoin() throws IOException, ProcCallException {
+        startSeededCluster();
+
+        NodeFaultReport kill = cluster.killNode("host-2");
+        assertEquals(NodeFaultReport.Action.KILL, kill.getAction());
+        assertNotNull(kill.getFailureDetection(), "Failure detection must be measured");
+        assertNotNull(kill.getClientRecovery(), "Client recovery must be measured");
+        assertEquals(2, memberCount(), "The killed node must leave the cluster");
+        assertEquals(ROWS, rowCount(), "Survivors must keep every row");
+
+        NodeFaultReport rejoin = cluster.rejoinNode("host-2");
+        assertEquals(NodeFaultReport.Action.REJOIN, rejoin.getAction());
+        assertNotNull(rejoin.getRejoin(), "Rejoin must be measured");
+        assertEquals(3, memberCount(), "The rejoined node must be a member again");
+        assertEquals(ROWS, rowCount());
+    }
+
+    /** stopNode() shuts a node down cleanly, and rejoinNode() brings it back. */
+    @Test
+    public void testStopAndRejoin() throws IOException, ProcCallException {
+        startSeededCluster();
+
+        NodeFaultReport stop = cluster.stopNode("host-1");
+        assertEquals(NodeFaultReport.Action.STOP, stop.getAction());
+        assertEquals(2, memberCount(), "The stopped node must leave the cluster");
+        cluster.callProcedure("FAULT_ITEMS.insert", ROWS);
+
+        cluster.rejoinNode("host-1");
+        assertEquals(3, memberCount(), "The rejoined node must be a member again");
+        assertEquals(ROWS + 1, rowCount(), "Rows written while the node was down must be kept");
+    }
+
+    /** With two nodes of a k=2 cluster down, one of them rejoins without waiting for the other. */
+    @Test
+    public void testRejoinOneOfTwoStoppedNodes() throws IOException, ProcCallException {
+        cluster = new VoltDBCluster(validLicensePath, VOLTDB_IMAGE, 3, 2);
+        cluster.start();
+
+        cluster.stopNode("host-1");
+        cluster.killNode("host-2");
+        assertEquals(1, memberCount());
+
+        cluster.rejoinNode("host-1");
+        assertEquals(2, memberCount(), "The rejoined node must be a member while the other is still down");
+    }
+
+    /** A node added by addNodes() rejoins as a member rather than joining again. */
+    @Test
+    public void testRejoinAddedNode() throws IOException, ProcCallException {
+        cluster = new VoltDBCluster(validLicensePath, VOLTDB_IMAGE, 2, 1);
+        cluster.start();
+        cluster.addNodes(2);
+
+        cluster.killNode("host-3");
+        assertEquals(3, memberCount());
+
+        cluster.rejoinNode("host-3");
+        assertEquals(4, memberCount(), "The added node must rejoin the expanded cluster");
+    }
+
+    /** Faults are only accepted for running nodes, and rejoins only for stopped ones. */
+    @Test
+    public void testInvalidNodes() throws IOException {
+        cluster = new VoltDBCluster(validLicensePath, VOLTDB_IMAGE, 3, 1);
+        cluster.start();
+
+        assertThrows(IllegalArgumentException.class, () -> cluster.killNode("host-9"));
+        assertThrows(IllegalArgumentException.class, () -> cluster.rejoinNode("host-1"));
+    }
+
+    private void startSeededCluster() throws IOException, ProcCallException {
+        cluster = new VoltDBCluster(validLicensePath, VOLTDB_IMAGE, 3, 1);
+        cluster.start();
+        cluster.runDDL("CREATE TABLE fault_items (id INTEGER NOT NULL, PRIMARY KEY(id));\n"
+                       + "PARTITION TABLE fault_items ON COLUMN id;");
+        for (int id = 0; id < ROWS; id++) {
+            cluster.callProcedure("FAULT_ITEMS.insert", id);
+        }
+    }
+
+    private long rowCount() throws IOException, ProcCallException {
+        return cluster.callProcedure("@AdHoc", "SELECT COUNT(*) FROM fault_items;")
+                .getResults()[0].fetchRow(0).getLong(0);
+    }
+
+    private int memberCount() throws IOException, ProcCallException {
+        VoltTable overview = cluster.callProcedure("@SystemInformation", "OVERVIEW").getResults()[0];
+        Set<Long> hosts = new HashSet<>();
+        while (overview.advanceRow()) {
+            hosts.add(overview.getLong("HOST_ID"));
+        }
+        return hosts.size();
+    }
+}
@@ -0,0 +1,85 @@
+/*
+ * Copyright (C) 2025-2026 Volt Active Data Inc.
+ *
+ * Use of this source code is governed by an MIT
+ * license that can be found in the LICENSE file or at
+ * https://opensource.org/licenses/MIT.
+ */
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.voltdb.client.ClientResponse;
+import org.voltdb.client.ProcCallException;
+import org.voltdbtest.testcontainer.VoltDBCluster;
+
+import java.io.IOException;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Integration tests for the snapshot-based fixtures of {@link VoltDBCluster}.
+ *
+ * <p>Saves the contents of a 2-node cluster, changes them, and checks that
+ * restoring the fixture brings back exactly the saved rows.
+ */
+public class VoltDBClusterFixtureIT extends TestBase {
+
+    private VoltDBCluster cluster;
+
+    @AfterEach
+    public void tearDown() {
+        if (cluster != null) {
+            cluster.shutdown();
+            cluster = null;
+        }
+    }
+
+    /** Rows inserted or deleted after saveFixture() are undone by restoreFixture(). */
+    @Test
+    public void testSaveMutateRestore() throws IOException, ProcCallException {
+        cluster = new VoltDBCluster(validLicensePath, VOLTDB_IMAGE, 2, 0);
+        cluster.start();
+        cluster.runDDL("CREATE TABLE fixture_items (id INTEGER NOT NULL, PRIMARY KEY(id));\n"
+                       + "PARTITION TABLE fixture_items ON COLUMN id;\n"
+                       + "CREATE TABLE fixture_settings (name VARCHAR(32) NOT NULL, PRIMARY KEY(name));");
+        for (int id = 0; id < 100; id++) {
+            cluster.callProcedure("FIXTURE_ITEMS.insert", id);
+        }
+        cluster.callProcedure("FIXTURE_SETTINGS.insert", "mode");
+
+        cluster.saveFixture("seeded");
+        assertEquals(100, count("fixture_items"));
+
+        // mutate both tables, then put the saved rows back
+        cluster.callProcedure("@AdHoc", "DELETE FROM fixture_items WHERE id < 50;");
+        cluster.callProcedure("FIXTURE_ITEMS.insert", 1000);
+        cluster.callProcedure("FIXTURE_SETTINGS.insert", "extra");
+        assertEquals(51, count("fixture_items"));
+        assertEquals(2, count("fixture_settings"));
+
+        cluster.restoreFixture("seeded");
+        assertEquals(100, count("fixture_items"));
+        assertEquals(1, count("fixture_settings"));
+        assertEquals(0, count("fixture_items WHERE id = 1000"));
+
+        // a fixture can be restored again, and saved under the same name again
+        cluster.callProcedure("@AdHoc", "DELETE FROM fixture_items;");
+        cluster.restoreFixture("seeded");
+        assertEquals(100, count("fixture_items"));
+        cluster.saveFixture("seeded");
+    }
+
+    /** Fixture names must be valid snapshot nonces. */
+    @Test
+    public void testInvalidFixtureName() throws IOException {
+        cluster = new VoltDBCluster(validLicensePath, VOLTDB_IMAGE, 2, 0);
+        cluster.start();
+
+        assertThrows(IllegalArgumentException.class, () -> cluster.saveFixture("../escape"));
+        assertThrows(IllegalArgumentException.class, () -> cluster.restoreFixture(""));
+    }
+
+    private long count(String from) throws IOException, ProcCallException {
+        ClientResponse response = cluster.callProcedure("@AdHoc", "SELECT COUNT(*) FROM " + from + ";");
+        return response.getResults()[0].fetchRow(0).getLong(0);
+    }
+}
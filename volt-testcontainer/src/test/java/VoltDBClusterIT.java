@@ -134,6 +134,28 @@ public class VoltDBClusterIT extends TestBase {
         }
     }
 
+    /** runDDL(File, true) pipelines the inserts and applies every one of them. */
+    @Test
+    public void testRunDDLFilePipelined() throws IOException, ProcCallException {
+        cluster = new VoltDBCluster(validLicensePath, VOLTDB_IMAGE);
+        cluster.start();
+
+        Path tempFile = Files.createTempFile("ddl", ".sql");
+        try (FileWriter w = new FileWriter(tempFile.toFile())) {
+            w.write("CREATE TABLE ddl_pipeline_test (id INTEGER NOT NULL, PRIMARY KEY(id));\n");
+            for (int id = 0; id < 100; id++) {
+                w.write("INSERT INTO ddl_pipeline_test VALUES (" + id + ");\n");
+            }
+        }
+        try {
+            assertTrue(cluster.runDDL(tempFile.toFile(), true));
+            assertEquals(100, cluster.callProcedure("@AdHoc", "SELECT COUNT(*) FROM ddl_pipeline_test;")
+                    .getResults()[0].fetchRow(0).getLong(0));
+        } finally {
+            Files.delete(tempFile);
+        }
+    }
+
     /** callProcedure() succeeds for a built-in system procedure. */
     @Test
     public void testCallProcedure() throws IOException, ProcCallException {
@@ -0,0 +1,113 @@
+/*
+ * Copyright (C) 2025-2026 Volt Active Data Inc.
+ *
+ * Use of this source code is governed by an MIT
+ * license that can be found in the LICENSE file or at
+ * https://opensource.org/licenses/MIT.
+ */
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.voltdb.VoltTable;
+import org.voltdb.client.ProcCallException;
+import org.voltdbtest.testcontainer.PartitionReport;
+import org.voltdbtest.testcontainer.VoltDBCluster;
+
+import java.io.IOException;
+import java.util.HashSet;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Integration tests for {@link VoltDBCluster#partitionNetwork(Set, Set)}.
+ *
+ * <p>Splits a 3-node k=1 cluster with the majority on either side, checks that
+ * the majority survives and keeps every row, then heals the network and rejoins
+ * the nodes that were shut down.
+ */
+public class VoltDBClusterPartitionIT extends TestBase {
+
+    private static final int ROWS = 500;
+
+    private VoltDBCluster cluster;
+
+    @AfterEach
+    public void tearDown() {
+        if (cluster != null) {
+            cluster.heal();
+            cluster.shutdown();
+            cluster = null;
+        }
+    }
+
+    /** The majority on the first side survives; the node moved away is shut down. */
+    @Test
+    public void testMajorityOnSideA() throws IOException, ProcCallException {
+        startSeededCluster();
+
+        PartitionReport report = cluster.partitionNetwork(Set.of("host-0", "host-1"), Set.of("host-2"));
+
+        assertEquals(Set.of("host-0", "host-1"), report.getSurvivors());
+        assertNotNull(report.getDetection(), "Detection must be measured");
+        assertNotNull(report.getClientOutage(), "Client outage must be measured for surviving nodes");
+        assertEquals(2, memberCount());
+        assertEquals(ROWS, rowCount(), "The surviving side must keep every row");
+
+        cluster.heal();
+        cluster.rejoinNode("host-2");
+        assertEquals(3, memberCount(), "The shut down node must rejoin after heal()");
+    }
+
+    /** The majority on the moved side survives; the node left behind is shut down. */
+    @Test
+    public void testMajorityOnSideB() throws IOException, ProcCallException {
+        startSeededCluster();
+
+        PartitionReport report = cluster.partitionNetwork(Set.of("host-0"), Set.of("host-1", "host-2"));
+
+        assertEquals(Set.of("host-1", "host-2"), report.getSurvivors());
+        assertNotNull(report.getClientOutage(), "Client outage must be measured for surviving nodes");
+
+        cluster.heal();
+        assertEquals(2, memberCount());
+        assertEquals(ROWS, rowCount(), "The surviving side must keep every row");
+        cluster.rejoinNode("host-0");
+        assertEquals(3, memberCount(), "The shut down node must rejoin after heal()");
+    }
+
+    /** The sides must be disjoint and together cover the running nodes. */
+    @Test
+    public void testInvalidSides() throws IOException {
+        cluster = new VoltDBCluster(validLicensePath, VOLTDB_IMAGE, 3, 1);
+        cluster.start();
+
+        assertThrows(IllegalArgumentException.class,
+                () -> cluster.partitionNetwork(Set.of("host-0"), Set.of("host-1")));
+        assertThrows(IllegalArgumentException.class,
+                () -> cluster.partitionNetwork(Set.of("host-0", "host-1"), Set.of("host-1", "host-2")));
+    }
+
+    private void startSeededCluster() throws IOException, ProcCallException {
+        cluster = new VoltDBCluster(validLicensePath, VOLTDB_IMAGE, 3, 1);
+        cluster.start();
+        cluster.runDDL("CREATE TABLE partition_items (id INTEGER NOT NULL, PRIMARY KEY(id));\n"
+                       + "PARTITION TABLE partition_items ON COLUMN id;");
+        for (int id = 0; id < ROWS; id++) {
+            cluster.callProcedure("PARTITION_ITEMS.insert", id);
+        }
+    }
+
+    private long rowCount() throws IOException, ProcCallException {
+        return cluster.callProcedure("@AdHoc", "SELECT COUNT(*) FROM partition_items;")
+                .getResults()[0].fetchRow(0).getLong(0);
+    }
+
+    private int memberCount() throws IOException, ProcCallException {
+        VoltTable overview = cluster.callProcedure("@SystemInformation", "OVERVIEW").getResults()[0];
+        Set<Long> hosts = new HashSet<>();
+        while (overview.advanceRow()) {
+            hosts.add(overview.getLong("HOST_ID"));
+        }
+        return hosts.size();
+    }
+}
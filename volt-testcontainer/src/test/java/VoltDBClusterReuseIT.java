@@ -0,0 +1,82 @@
+/*
+ * Copyright (C) 2025-2026 Volt Active Data Inc.
+ *
+ * Use of this source code is governed by an MIT
+ * license that can be found in the LICENSE file or at
+ * https://opensource.org/licenses/MIT.
+ */
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.testcontainers.utility.TestcontainersConfiguration;
+import org.voltdb.client.ProcCallException;
+import org.voltdbtest.testcontainer.VoltDBCluster;
+
+import java.io.IOException;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
+
+/**
+ * Integration tests for {@link VoltDBCluster#withReuse(boolean)}.
+ *
+ * <p>Starts a reusable cluster, leaves it running, and attaches a second cluster
+ * object with the same configuration to it, as a later test JVM would. Needs
+ * {@code testcontainers.reuse.enable=true} in {@code ~/.testcontainers.properties}.
+ */
+public class VoltDBClusterReuseIT extends TestBase {
+
+    private VoltDBCluster cluster;
+
+    @AfterEach
+    public void tearDown() {
+        if (cluster != null) {
+            // stop the nodes, which shutdown() leaves running for a reusable cluster
+            cluster.withReuse(false).shutdown();
+            cluster = null;
+        }
+    }
+
+    /** A second cluster with the same configuration reattaches and finds its tables truncated. */
+    @Test
+    public void testReattachTruncatesTables() throws IOException, ProcCallException {
+        assumeTrue(TestcontainersConfiguration.getInstance().environmentSupportsReuse(),
+                "Container reuse is not enabled in ~/.testcontainers.properties");
+
+        VoltDBCluster first = new VoltDBCluster(validLicensePath, VOLTDB_IMAGE, 2, 0).withReuse(true);
+        cluster = first;
+        first.start();
+        assertFalse(first.isReused(), "The first cluster must start new nodes");
+        first.runDDL("CREATE TABLE reuse_items (id INTEGER NOT NULL, PRIMARY KEY(id));\n"
+                     + "PARTITION TABLE reuse_items ON COLUMN id;");
+        for (int id = 0; id < 10; id++) {
+            first.callProcedure("REUSE_ITEMS.insert", id);
+        }
+        first.shutdown();
+
+        cluster = new VoltDBCluster(validLicensePath, VOLTDB_IMAGE, 2, 0).withReuse(true);
+        cluster.start();
+
+        assertTrue(cluster.isReused(), "A cluster with the same configuration must be reattached");
+        assertEquals(0, cluster.callProcedure("@AdHoc", "SELECT COUNT(*) FROM reuse_items;")
+                .getResults()[0].fetchRow(0).getLong(0), "Tables of a reattached cluster must be truncated");
+    }
+
+    /** A cluster with a different configuration does not reattach to a running one. */
+    @Test
+    public void testDifferentConfigurationStartsNewNodes() throws IOException {
+        assumeTrue(TestcontainersConfiguration.getInstance().environmentSupportsReuse(),
+                "Container reuse is not enabled in ~/.testcontainers.properties");
+
+        VoltDBCluster first = new VoltDBCluster(validLicensePath, VOLTDB_IMAGE, 1, 0).withReuse(true);
+        first.start();
+        first.shutdown();
+
+        cluster = new VoltDBCluster(validLicensePath, VOLTDB_IMAGE, 1, 0).withReuse(true).withCpus(1);
+        try {
+            cluster.start();
+            assertFalse(cluster.isReused(), "A changed configuration must not reattach");
+        } finally {
+            first.withReuse(false).shutdown();
+        }
+    }
+}
@@ -0,0 +1,72 @@
+/*
+ * Copyright (C) 2025-2026 Volt Active Data Inc.
+ *
+ * Use of this source code is governed by an MIT
+ * license that can be found in the LICENSE file or at
+ * https://opensource.org/licenses/MIT.
+ */
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.voltdbtest.testcontainer.ShutdownReport;
+import org.voltdbtest.testcontainer.VoltDBCluster;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Integration tests for {@link VoltDBCluster#shutdown(boolean, Duration)}.
+ *
+ * <p>Tears down a 3-node cluster, both cleanly and with a fast kill, and checks
+ * that the teardown finishes within its deadline and reports every node.
+ */
+public class VoltDBClusterShutdownIT extends TestBase {
+
+    private static final Duration TIMEOUT = Duration.ofSeconds(30);
+
+    private static final Set<String> HOSTS = Set.of("host-0", "host-1", "host-2");
+
+    private VoltDBCluster cluster;
+
+    @AfterEach
+    public void tearDown() {
+        if (cluster != null) {
+            cluster.shutdown();
+            cluster = null;
+        }
+    }
+
+    /** A clean shutdown removes every node within the deadline, none of them killed. */
+    @Test
+    public void testCleanShutdown() throws IOException {
+        cluster = new VoltDBCluster(validLicensePath, VOLTDB_IMAGE, 3, 1);
+        cluster.start();
+
+        ShutdownReport report = cluster.shutdown(false, TIMEOUT);
+        cluster = null; // prevent double-shutdown in tearDown
+
+        assertEquals(HOSTS, report.getNodeElapsed().keySet(), "Every node must be reported: " + report);
+        assertTrue(report.getFailedNodes().isEmpty(), "No node may fail to be removed: " + report);
+        assertTrue(report.isClean(), "Every node must exit after @Shutdown: " + report);
+        assertTrue(report.getElapsed().compareTo(TIMEOUT) < 0, "The teardown must finish within the deadline: " + report);
+        report.getNodeElapsed().values().forEach(elapsed ->
+                assertTrue(elapsed.compareTo(report.getElapsed()) <= 0, "A node cannot take longer than the teardown"));
+    }
+
+    /** A fast kill removes every node without waiting for the deadline. */
+    @Test
+    public void testFastKill() throws IOException {
+        cluster = new VoltDBCluster(validLicensePath, VOLTDB_IMAGE, 3, 1);
+        cluster.start();
+
+        ShutdownReport report = cluster.shutdown(true, TIMEOUT);
+        cluster = null; // prevent double-shutdown in tearDown
+
+        assertEquals(HOSTS, report.getNodeElapsed().keySet(), "Every node must be reported: " + report);
+        assertEquals(HOSTS, Set.copyOf(report.getKilledNodes()), "Every node must be killed: " + report);
+        assertTrue(report.getFailedNodes().isEmpty(), "No node may fail to be removed: " + report);
+        assertTrue(report.getElapsed().compareTo(TIMEOUT) < 0, "The teardown must finish within the deadline: " + report);
+    }
+}
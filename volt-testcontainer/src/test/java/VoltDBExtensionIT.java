@@ -0,0 +1,116 @@
+/*
+ * Copyright (C) 2025-2026 Volt Active Data Inc.
+ *
+ * Use of this source code is governed by an MIT
+ * license that can be found in the LICENSE file or at
+ * https://opensource.org/licenses/MIT.
+ */
+import org.junit.jupiter.api.ClassOrderer;
+import org.junit.jupiter.api.MethodOrderer;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Order;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestClassOrder;
+import org.junit.jupiter.api.TestMethodOrder;
+import org.voltdb.client.ProcCallException;
+import org.voltdbtest.testcontainer.VoltDBCluster;
+import org.voltdbtest.testcontainer.VoltDBTest;
+
+import java.io.IOException;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Integration tests for the cluster scopes of {@link VoltDBTest}.
+ *
+ * <p>Each nested class runs two ordered tests: the first records the cluster it was
+ * given and inserts a row, the second checks whether it got the same cluster and
+ * whether the row is still there.
+ */
+@TestClassOrder(ClassOrderer.OrderAnnotation.class)
+public class VoltDBExtensionIT {
+
+    private static VoltDBCluster classCluster;
+    private static VoltDBCluster methodCluster;
+    private static VoltDBCluster suiteCluster;
+
+    @Nested
+    @Order(1)
+    @TestMethodOrder(MethodOrderer.OrderAnnotation.class)
+    @VoltDBTest(image = TestBase.VOLTDB_IMAGE, schema = "extension-schema.ddl", scope = VoltDBTest.Scope.CLASS)
+    class ClassScope {
+
+        /** The first test of the class starts the cluster with the schema loaded. */
+        @Test
+        @Order(1)
+        void first(VoltDBCluster cluster) throws IOException, ProcCallException {
+            classCluster = cluster;
+            cluster.callProcedure("EXTENSION_ITEMS.insert", 1);
+            assertEquals(1, count(cluster));
+        }
+
+        /** The second test shares the cluster, and the tables were truncated in between. */
+        @Test
+        @Order(2)
+        void second(VoltDBCluster cluster) throws IOException, ProcCallException {
+            assertSame(classCluster, cluster, "Tests of a CLASS scoped class must share the cluster");
+            assertEquals(0, count(cluster), "Tables must be truncated between tests");
+        }
+    }
+
+    @Nested
+    @Order(2)
+    @TestMethodOrder(MethodOrderer.OrderAnnotation.class)
+    @VoltDBTest(image = TestBase.VOLTDB_IMAGE, schema = "extension-schema.ddl", scope = VoltDBTest.Scope.METHOD)
+    class MethodScope {
+
+        /** The first test gets a cluster of its own. */
+        @Test
+        @Order(1)
+        void first(VoltDBCluster cluster) throws IOException, ProcCallException {
+            methodCluster = cluster;
+            cluster.callProcedure("EXTENSION_ITEMS.insert", 1);
+        }
+
+        /** The second test gets a new cluster, and the same cluster in all of its parameters. */
+        @Test
+        @Order(2)
+        void second(VoltDBCluster cluster, VoltDBCluster again) throws IOException, ProcCallException {
+            assertNotSame(methodCluster, cluster, "Every METHOD scoped test must get a new cluster");
+            assertSame(cluster, again);
+            assertEquals(0, count(cluster));
+        }
+    }
+
+    @Nested
+    @Order(3)
+    @VoltDBTest(image = TestBase.VOLTDB_IMAGE, schema = "extension-schema.ddl", scope = VoltDBTest.Scope.SUITE)
+    class FirstSuiteScope {
+
+        /** The first class of the run with these settings starts the cluster. */
+        @Test
+        void first(VoltDBCluster cluster) throws IOException, ProcCallException {
+            suiteCluster = cluster;
+            cluster.callProcedure("EXTENSION_ITEMS.insert", 1);
+        }
+    }
+
+    @Nested
+    @Order(4)
+    @VoltDBTest(image = TestBase.VOLTDB_IMAGE, schema = "extension-schema.ddl", scope = VoltDBTest.Scope.SUITE)
+    class SecondSuiteScope {
+
+        /** Another class with the same settings reuses the running cluster, reset for the test. */
+        @Test
+        void second(VoltDBCluster cluster) throws IOException, ProcCallException {
+            assertSame(suiteCluster, cluster, "Classes with the same SUITE settings must share the cluster");
+            assertNotSame(classCluster, cluster, "A SUITE cluster is not shared with CLASS scoped tests");
+            assertEquals(0, count(cluster), "Tables must be truncated between tests");
+        }
+    }
+
+    private static long count(VoltDBCluster cluster) throws IOException, ProcCallException {
+        return cluster.callProcedure("@AdHoc", "SELECT COUNT(*) FROM extension_items;")
+                .getResults()[0].fetchRow(0).getLong(0);
+    }
+}
@@ -0,0 +1,131 @@
+/*
+ * Copyright (C) 2025-2026 Volt Active Data Inc.
+ *
+ * Use of this source code is governed by an MIT
+ * license that can be found in the LICENSE file or at
+ * https://opensource.org/licenses/MIT.
+ */
+package org.voltdb.testparser;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.StringReader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Unit tests for {@link MappedFileReader} and {@link ChainedLineReader}.
+ */
+public class MappedFileReaderTest {
+
+    private static final List<String> CONTENTS = List.of(
+            "",
+            "\n",
+            "select 1;",
+            "select 1;\nselect 2;\n",
+            "crlf;\r\nline;\r\n\r\nend",
+            "cr;\rline;\r",
+            "insert into t values ('héllo wörld €𝄞');\n-- ünïcode across boundaries\n",
+            "a very long line that spans several decoding chunks and mapping windows of the file\nshort\n");
+
+    @TempDir
+    Path tempDir;
+
+    @Test
+    void readsTheSameLinesAsBufferedReader() throws IOException {
+        for (String content : CONTENTS) {
+            Path file = tempDir.resolve("script.sql");
+            Files.writeString(file, content, StandardCharsets.UTF_8);
+            List<String> expected = bufferedLines(content);
+            // windows and chunks small enough to split lines and multi-byte characters
+            for (int[] sizes : new int[][] {{4, 2}, {5, 3}, {7, 16}, {64 * 1024, 256 * 1024}}) {
+                // When
+                List<String> lines = new ArrayList<>();
+                int lineNum;
+                try (MappedFileReader reader = new MappedFileReader(file.toFile(), StandardCharsets.UTF_8, sizes[0], sizes[1])) {
+                    String line;
+                    while ((line = reader.readBatchLine()) != null) {
+                        lines.add(line);
+                    }
+                    lineNum = reader.getLineNumber();
+                }
+
+                // Then
+                assertThat(lines).as("%s with window %d and chunk %d", content, sizes[0], sizes[1]).isEqualTo(expected);
+                assertThat(lineNum).isEqualTo(expected.size() + 1);
+            }
+        }
+    }
+
+    @Test
+    void appendsTheSameLinesToABatch() throws IOException {
+        for (String content : CONTENTS) {
+            Path file = tempDir.resolve("script.sql");
+            Files.writeString(file, content, StandardCharsets.UTF_8);
+            List<String> expected = bufferedLines(content);
+            for (int[] sizes : new int[][] {{4, 2}, {5, 3}, {7, 16}, {64 * 1024, 256 * 1024}}) {
+                // When
+                StringBuilder batch = new StringBuilder("-- start\n");
+                int lineNum;
+                try (MappedFileReader reader = new MappedFileReader(file.toFile(), StandardCharsets.UTF_8, sizes[0], sizes[1])) {
+                    while (reader.readBatchLine(batch)) {
+                        assertThat(batch).endsWith("\n");
+                    }
+                    lineNum = reader.getLineNumber();
+                }
+
+                // Then
+                String lines = expected.stream().map(line -> line + "\n").collect(Collectors.joining());
+                assertThat(batch.toString()).as("%s with window %d and chunk %d", content, sizes[0], sizes[1])
+                        .isEqualTo("-- start\n" + lines);
+                assertThat(lineNum).isEqualTo(expected.size() + 1);
+            }
+        }
+    }
+
+    @Test
+    void chainsFilesWithRunningLineNumbers() throws IOException {
+        // Given
+        Path first = tempDir.resolve("first.sql");
+        Path second = tempDir.resolve("second.sql");
+        Files.writeString(first, "create table a (id integer);\ncreate table b (id integer);");
+        Files.writeString(second, "create table c (id integer);\n");
+        List<MappedFileReader> readers = List.of(
+                new MappedFileReader(first.toFile(), StandardCharsets.UTF_8),
+                new MappedFileReader(second.toFile(), StandardCharsets.UTF_8));
+
+        // When
+        List<String> lines = new ArrayList<>();
+        try (ChainedLineReader reader = new ChainedLineReader(readers)) {
+            String line;
+            while ((line = reader.readBatchLine()) != null) {
+                lines.add(reader.getLineNumber() + ": " + line);
+            }
+        }
+
+        // Then
+        assertThat(lines).containsExactly(
+                "1: create table a (id integer);",
+                "2: create table b (id integer);",
+                "3: create table c (id integer);");
+    }
+
+    private static List<String> bufferedLines(String content) throws IOException {
+        List<String> lines = new ArrayList<>();
+        BufferedReader reader = new BufferedReader(new StringReader(content));
+        String line;
+        while ((line = reader.readLine()) != null) {
+            lines.add(line);
+        }
+        return lines;
+    }
+}
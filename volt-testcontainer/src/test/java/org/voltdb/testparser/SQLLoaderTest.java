@@ -0,0 +1,207 @@
+/*
+ * Copyright (C) 2025-2026 Volt Active Data Inc.
+ *
+ * Use of this source code is governed by an MIT
+ * license that can be found in the LICENSE file or at
+ * https://opensource.org/licenses/MIT.
+ */
+package org.voltdb.testparser;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.voltdb.client.Client2;
+import org.voltdb.client.Client2CallOptions;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.PrintStream;
+import java.lang.reflect.Proxy;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Unit tests for the auto-batch and pipelined modes of {@link SQLLoader}, and its Client2 call options.
+ */
+public class SQLLoaderTest {
+
+    @TempDir
+    Path tempDir;
+
+    @Test
+    void autoBatchGroupsConsecutiveDDL() throws IOException {
+        // Given
+        Path script = tempDir.resolve("schema.sql");
+        Files.writeString(script, String.join("\n",
+                "CREATE TABLE a (id INTEGER NOT NULL);",
+                "-- a comment between statements",
+                "",
+                "CREATE TABLE b (",
+                "  id INTEGER NOT NULL",
+                ");",
+                "INSERT INTO a VALUES (1);",
+                "CREATE INDEX a_id ON a (id); PARTITION TABLE a ON COLUMN id;",
+                ""));
+        RecordingLoader loader = new RecordingLoader();
+
+        // When
+        int exitCode = loader.execute("--file=" + script, "--auto-batch");
+
+        // Then
+        assertThat(exitCode).isZero();
+        assertThat(loader.calls).containsExactly(
+                "batch@1:CREATE TABLE a (id INTEGER NOT NULL);\n\n\nCREATE TABLE b (\n  id INTEGER NOT NULL\n);",
+                "statement@7:INSERT INTO a VALUES (1)",
+                "batch@8:CREATE INDEX a_id ON a (id); PARTITION TABLE a ON COLUMN id;");
+    }
+
+    @Test
+    void withoutAutoBatchEachStatementRunsAlone() throws IOException {
+        // Given
+        Path script = tempDir.resolve("schema.sql");
+        Files.writeString(script, "CREATE TABLE a (id INTEGER NOT NULL);\nCREATE TABLE b (id INTEGER NOT NULL);\n");
+        RecordingLoader loader = new RecordingLoader();
+
+        // When
+        loader.execute("--file=" + script);
+
+        // Then
+        assertThat(loader.calls).containsExactly(
+                "statement@1:CREATE TABLE a (id INTEGER NOT NULL)",
+                "statement@2:CREATE TABLE b (id INTEGER NOT NULL)");
+    }
+
+    @Test
+    void pipelineWaitsForDMLAtBarriersAndReportsFailedLines() throws IOException {
+        // Given
+        Path script = tempDir.resolve("seed.sql");
+        Files.writeString(script, String.join("\n",
+                "INSERT INTO a VALUES (1);",
+                "INSERT INTO a VALUES (2);",
+                "SELECT COUNT(*) FROM a;",
+                "UPSERT INTO a VALUES (3);",
+                ""));
+        RecordingLoader loader = new RecordingLoader();
+        ByteArrayOutputStream errors = new ByteArrayOutputStream();
+        PrintStream stderr = System.err;
+
+        // When
+        System.setErr(new PrintStream(errors, true, StandardCharsets.UTF_8));
+        try {
+            loader.execute("--file=" + script, "--pipeline=2");
+        } finally {
+            System.setErr(stderr);
+        }
+
+        // Then
+        assertThat(loader.calls).containsExactly(
+                "sent@1", "sent@2", "done@1", "done@2",
+                "statement@3:SELECT COUNT(*) FROM a",
+                "sent@4", "done@4");
+        assertThat(errors.toString(StandardCharsets.UTF_8)).contains("[" + script + ":2] boom");
+    }
+
+    @Test
+    void client2QueriesCarryTheQueryTimeout() throws IOException {
+        // Given
+        Path script = tempDir.resolve("query.sql");
+        Files.writeString(script, "SELECT COUNT(*) FROM a;\n");
+        List<Object> firstArgs = new ArrayList<>();
+        Client2 client = (Client2) Proxy.newProxyInstance(Client2.class.getClassLoader(), new Class<?>[]{Client2.class},
+                (proxy, method, args) -> {
+                    firstArgs.add(args[0]);
+                    throw new IOException("no server");
+                });
+        PrintStream stderr = System.err;
+
+        // When
+        System.setErr(new PrintStream(new ByteArrayOutputStream(), true, StandardCharsets.UTF_8));
+        try {
+            new SQLLoader(client).execute("--file=" + script);
+        } finally {
+            System.setErr(stderr);
+        }
+
+        // Then
+        assertThat(firstArgs).singleElement().isInstanceOf(Client2CallOptions.class);
+    }
+
+    @Test
+    void batchSendsEveryLineOfItsFilesInOneCall() throws IOException {
+        // Given
+        Path first = tempDir.resolve("first.sql");
+        Files.writeString(first, "-- tables\nCREATE TABLE a (\n  id INTEGER NOT NULL\n);\n");
+        Path second = tempDir.resolve("second.sql");
+        Files.writeString(second, "CREATE TABLE b (id INTEGER); /* done; */\n\nCREATE INDEX a_id ON a (id);");
+        Path script = tempDir.resolve("main.sql");
+        Files.writeString(script, "file -batch " + first + " " + second + "\n");
+        List<Object> sql = new ArrayList<>();
+        Client2 client = (Client2) Proxy.newProxyInstance(Client2.class.getClassLoader(), new Class<?>[]{Client2.class},
+                (proxy, method, args) -> {
+                    for (Object arg : args) {
+                        if (arg instanceof Object[]) {
+                            sql.add(((Object[]) arg)[0]);
+                        }
+                    }
+                    throw new IOException("no server");
+                });
+        PrintStream stdout = System.out;
+        PrintStream stderr = System.err;
+
+        // When
+        System.setOut(new PrintStream(new ByteArrayOutputStream(), true, StandardCharsets.UTF_8));
+        System.setErr(new PrintStream(new ByteArrayOutputStream(), true, StandardCharsets.UTF_8));
+        try {
+            new SQLLoader(client).execute("--file=" + script);
+        } finally {
+            System.setOut(stdout);
+            System.setErr(stderr);
+        }
+
+        // Then
+        assertThat(sql).containsExactly(
+                "-- tables\nCREATE TABLE a (\n  id INTEGER NOT NULL\n);\n"
+                + "CREATE TABLE b (id INTEGER); /* done; */\n\nCREATE INDEX a_id ON a (id);\n");
+    }
+
+    private static final class RecordingLoader extends SQLLoader {
+        private final List<String> calls = Collections.synchronizedList(new ArrayList<>());
+
+        RecordingLoader() {
+            super((Client2) null);
+        }
+
+        @Override
+        protected void executeStatement(String statement, int lineNum) {
+            calls.add("statement@" + lineNum + ":" + statement);
+        }
+
+        @Override
+        protected void executeAutoBatch(String batchName, String statements, int firstLineNum) {
+            calls.add("batch@" + firstLineNum + ":" + statements);
+        }
+
+        @Override
+        protected CompletableFuture<?> executeStatementAsync(String statement, int lineNum) {
+            calls.add("sent@" + lineNum);
+            // complete later, so that only the barrier orders "done" before the next statement
+            return CompletableFuture.runAsync(() -> {
+                try {
+                    Thread.sleep(50L * lineNum);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+                calls.add("done@" + lineNum);
+                if (lineNum == 2) {
+                    throw new IllegalStateException("boom");
+                }
+            });
+        }
+    }
+}
@@ -0,0 +1,153 @@
+/*
+ * Copyright (C) 2025-2026 Volt Active Data Inc.
+ *
+ * Use of this source code is governed by an MIT
+ * license that can be found in the LICENSE file or at
+ * https://opensource.org/licenses/MIT.
+ */
+package org.voltdb.testparser;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.api.Assertions.tuple;
+
+/**
+ * Unit tests for {@link SQLStreamLexer}.
+ */
+public class SQLStreamLexerTest {
+
+    private static final List<String> SCRIPTS = List.of(
+            "CREATE TABLE a (id INTEGER NOT NULL);\nINSERT INTO a VALUES (1);\n",
+            "select 'a;b', \"c;d\" from t; select 'it''s; here' from t;",
+            "select 'back\\'slash;' from t;\nselect 2",
+            "-- leading comment; with a semicolon\nselect 1; /* block; comment */ select 2;\n",
+            "/* only a comment */;\nselect 1 -- trailing\n;\n",
+            "CREATE PROCEDURE p AS BEGIN\n  SELECT * FROM t;\n  SELECT CASE WHEN a = 1 THEN 2 ELSE 3 END FROM t;\nEND;\nselect 1;\n",
+            "create table t (begin integer, endx integer, cased varchar(10));\nselect begin from t;\n",
+            "CREATE PROCEDURE p AS BEGIN\n  SELECT * FROM t;\n",
+            "create procedure q as\nbegin\ninsert into t values ('x;y');\nend;",
+            "select 1;;  \n\n;select 'unterminated",
+            "/* unterminated comment; select 1;");
+
+    @Test
+    void matchesSplitStatementsForAnyChunking() {
+        for (String script : SCRIPTS) {
+            SplitStmtResults expected = SQLLexer.splitStatements(script);
+            for (int chunkSize = 1; chunkSize <= 8; chunkSize++) {
+                // When
+                SQLStreamLexer lexer = new SQLStreamLexer();
+                List<String> statements = new ArrayList<>();
+                for (int start = 0; start < script.length(); start += chunkSize) {
+                    statements.addAll(texts(lexer.feed(script.substring(start, Math.min(script.length(), start + chunkSize)))));
+                }
+                statements.addAll(texts(lexer.finish()));
+
+                // Then
+                assertThat(statements).as("%s in chunks of %d", script, chunkSize)
+                        .isEqualTo(expected.getCompletelyParsedStmts());
+                assertThat(lexer.getIncompleteStatement()).as("%s in chunks of %d", script, chunkSize)
+                        .isEqualTo(expected.getIncompleteStmt());
+            }
+        }
+    }
+
+    @Test
+    void emitsStatementsWhenTheirLineIsFed() {
+        // Given
+        SQLStreamLexer lexer = new SQLStreamLexer();
+
+        // When / Then
+        assertThat(texts(lexer.feed("CREATE PROCEDURE p AS BEGIN\n"))).isEmpty();
+        assertThat(texts(lexer.feed("  SELECT * FROM t;\n"))).isEmpty();
+        assertThat(lexer.isInStatement()).isTrue();
+        assertThat(lexer.feed("END; select 1;\n"))
+                .extracting(SQLStreamLexer.Statement::getText, SQLStreamLexer.Statement::getLineNumber)
+                .containsExactly(
+                        tuple("CREATE PROCEDURE p AS BEGIN\n  SELECT * FROM t;\nEND", 1),
+                        tuple("select 1", 3));
+        assertThat(lexer.isInStatement()).isFalse();
+    }
+
+    @Test
+    void countsLinesFromTheFirstLineNumber() {
+        // Given
+        SQLStreamLexer lexer = new SQLStreamLexer(10);
+
+        // When
+        lexer.feed("\n-- comment\n");
+        lexer.skipLine();
+        List<SQLStreamLexer.Statement> statements = lexer.feed("select\n1;\n");
+
+        // Then
+        assertThat(statements).extracting(SQLStreamLexer.Statement::getLineNumber).containsExactly(13);
+    }
+
+    @Test
+    void matchesSplitStatementsLineByLine() {
+        for (String script : SCRIPTS) {
+            SplitStmtResults expected = SQLLexer.splitStatements(script.endsWith("\n") ? script : script + "\n");
+
+            // When
+            SQLStreamLexer lexer = new SQLStreamLexer();
+            List<String> statements = new ArrayList<>();
+            // every line is fed with its newline, so a script without a final one gains it
+            String[] lines = script.split("\n", -1);
+            int lineCount = script.endsWith("\n") ? lines.length - 1 : lines.length;
+            for (int ii = 0; ii < lineCount; ii++) {
+                statements.addAll(texts(lexer.feedLine(lines[ii])));
+            }
+            statements.addAll(texts(lexer.finish()));
+
+            // Then
+            assertThat(statements).as(script).isEqualTo(expected.getCompletelyParsedStmts());
+            assertThat(lexer.getIncompleteStatement()).as(script).isEqualTo(expected.getIncompleteStmt());
+        }
+    }
+
+    @Test
+    void statementsAreViewsOfTheInputUntilItIsFedAgain() {
+        // Given
+        SQLStreamLexer lexer = new SQLStreamLexer();
+
+        // When
+        List<SQLStreamLexer.Statement> statements = lexer.feed("  select 1 /* one */ + -- two\n 2 ;\nselect 3;");
+
+        // Then
+        SQLStreamLexer.Statement first = statements.get(0);
+        assertThat(first.length()).isEqualTo("select 1   + \n 2".length());
+        assertThat(first.charAt(9)).isEqualTo(' ');
+        assertThat(first.charAt(13)).isEqualTo('\n');
+        assertThat(first.getText()).isEqualTo("select 1   + \n 2");
+        lexer.feed("select 4;\n");
+        assertThat(first.charAt(0)).isEqualTo('s');
+        SQLStreamLexer.Statement second = statements.get(1);
+        assertThatThrownBy(second::getText).isInstanceOf(IllegalStateException.class);
+    }
+
+    @Test
+    void withoutTextOnlyTracksStatementBoundaries() {
+        // Given
+        SQLStreamLexer lexer = new SQLStreamLexer(1, false);
+
+        // When / Then
+        assertThat(lexer.feedLine("CREATE PROCEDURE p AS BEGIN")).isEmpty();
+        assertThat(lexer.isInStatement()).isTrue();
+        assertThat(lexer.feedLine("  SELECT * FROM t; /* ; */")).isEmpty();
+        assertThat(lexer.isInStatement()).isTrue();
+        assertThat(lexer.feedLine("END; select 1;")).isEmpty();
+        assertThat(lexer.isInStatement()).isFalse();
+        assertThat(lexer.feedLine("select 'open")).isEmpty();
+        assertThat(lexer.finish()).isEmpty();
+        assertThat(lexer.getIncompleteStatement()).isNull();
+    }
+
+    private static List<String> texts(List<SQLStreamLexer.Statement> statements) {
+        return statements.stream().map(SQLStreamLexer.Statement::getText).collect(Collectors.toList());
+    }
+}
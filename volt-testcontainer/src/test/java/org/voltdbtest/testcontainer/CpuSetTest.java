@@ -0,0 +1,58 @@
+/*
+ * Copyright (C) 2025-2026 Volt Active Data Inc.
+ *
+ * Use of this source code is governed by an MIT
+ * license that can be found in the LICENSE file or at
+ * https://opensource.org/licenses/MIT.
+ */
+package org.voltdbtest.testcontainer;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * Unit tests for {@link CpuSet}.
+ */
+public class CpuSetTest {
+
+    @Test
+    void parseExpandsRangesAndRemovesDuplicates() {
+        // When
+        List<Integer> cpus = CpuSet.parse("4-6, 0,2,5");
+
+        // Then
+        assertThat(cpus).containsExactly(0, 2, 4, 5, 6);
+        assertThat(CpuSet.format(cpus)).isEqualTo("0,2,4-6");
+    }
+
+    @Test
+    void splitGivesEachShareContiguousCpus() {
+        // When
+        List<String> shares = CpuSet.split("0-6", 3);
+
+        // Then
+        assertThat(shares).containsExactly("0-2", "3-4", "5-6");
+    }
+
+    @Test
+    void rejectsInvalidCpusets() {
+        // When / Then
+        assertThatThrownBy(() -> CpuSet.parse("")).isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> CpuSet.parse("3-1")).isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> CpuSet.parse("a")).isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> CpuSet.split("0-1", 3)).isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    void rejectsCpuNumbersAboveTheLimit() {
+        // When / Then
+        assertThatThrownBy(() -> CpuSet.parse("0-2000000000")).isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> CpuSet.parse("4096")).isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> CpuSet.parse("99999999999")).isInstanceOf(IllegalArgumentException.class);
+        assertThat(CpuSet.parse("4094-4095")).containsExactly(4094, 4095);
+    }
+}
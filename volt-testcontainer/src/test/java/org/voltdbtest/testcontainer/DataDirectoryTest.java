@@ -0,0 +1,49 @@
+/*
+ * Copyright (C) 2025-2026 Volt Active Data Inc.
+ *
+ * Use of this source code is governed by an MIT
+ * license that can be found in the LICENSE file or at
+ * https://opensource.org/licenses/MIT.
+ */
+package org.voltdbtest.testcontainer;
+
+import com.github.dockerjava.api.model.HostConfig;
+import com.github.dockerjava.api.model.Mount;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Unit tests for {@link DataDirectory}.
+ */
+public class DataDirectoryTest {
+
+    @Test
+    void volumeIsMountedOncePerContainer() {
+        // Given
+        HostConfig hostConfig = new HostConfig();
+        DataDirectory volume = DataDirectory.volume("voltdata");
+
+        // When, as when a restarted container is created again
+        volume.applyTo(hostConfig, "host-1");
+        volume.applyTo(hostConfig, "host-1");
+
+        // Then
+        assertThat(hostConfig.getMounts()).singleElement()
+                .extracting(Mount::getSource, Mount::getTarget)
+                .containsExactly("voltdata-host-1", DataDirectory.PATH);
+    }
+
+    @Test
+    void tmpfsAddsNoMount() {
+        // Given
+        HostConfig hostConfig = new HostConfig();
+
+        // When
+        DataDirectory.tmpfs(64).applyTo(hostConfig, "host-0");
+
+        // Then
+        assertThat(hostConfig.getMounts()).isNull();
+        assertThat(DataDirectory.tmpfs(64).tmpfsMounts()).containsEntry(DataDirectory.PATH, "rw,exec,mode=1777,size=64m");
+    }
+}
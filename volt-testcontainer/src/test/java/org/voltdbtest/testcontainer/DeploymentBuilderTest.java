@@ -0,0 +1,155 @@
+/*
+ * Copyright (C) 2025-2026 Volt Active Data Inc.
+ *
+ * Use of this source code is governed by an MIT
+ * license that can be found in the LICENSE file or at
+ * https://opensource.org/licenses/MIT.
+ */
+package org.voltdbtest.testcontainer;
+
+import org.junit.jupiter.api.Test;
+import org.w3c.dom.Document;
+import org.w3c.dom.Element;
+import org.xml.sax.InputSource;
+
+import javax.xml.parsers.DocumentBuilderFactory;
+import java.io.StringReader;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * Unit tests for {@link DeploymentBuilder}.
+ */
+public class DeploymentBuilderTest {
+
+    private static Element element(String xml, String tag) throws Exception {
+        Document document = DocumentBuilderFactory.newInstance().newDocumentBuilder()
+                .parse(new InputSource(new StringReader(xml)));
+        return (Element) document.getElementsByTagName(tag).item(0);
+    }
+
+    @Test
+    void buildUsesContainerDefaults() throws Exception {
+        // When
+        String xml = new DeploymentBuilder().build();
+
+        // Then
+        Element cluster = element(xml, "cluster");
+        assertThat(cluster.getAttribute("hostcount")).isEqualTo("1");
+        assertThat(cluster.getAttribute("sitesperhost")).isEqualTo("8");
+        assertThat(cluster.getAttribute("kfactor")).isEqualTo("0");
+        assertThat(element(xml, "metrics").getAttribute("interval")).isEqualTo("60s");
+        assertThat(element(xml, "commandlog")).isNull();
+    }
+
+    @Test
+    void buildWritesTuningSettings() throws Exception {
+        // Given
+        DeploymentBuilder builder = new DeploymentBuilder()
+                .withHostCount(3)
+                .withKfactor(1)
+                .withSitesPerHost(4)
+                .withCommandLogSynchronous(true)
+                .withCommandLogFrequency(2, 1000)
+                .withSnapshots("30m", 2)
+                .withTempTablesMaxSize(200)
+                .withQueryTimeout(10000)
+                .withFlushInterval(500, 1000)
+                .withTopicsBrokerProperty("network.thread.count", "4")
+                .withMetrics(true, "5s");
+
+        // When
+        String xml = builder.build();
+
+        // Then
+        assertThat(element(xml, "cluster").getAttribute("sitesperhost")).isEqualTo("4");
+        assertThat(element(xml, "commandlog").getAttribute("synchronous")).isEqualTo("true");
+        assertThat(element(xml, "frequency").getAttribute("time")).isEqualTo("2");
+        assertThat(element(xml, "frequency").getAttribute("transactions")).isEqualTo("1000");
+        assertThat(element(xml, "snapshot").getAttribute("frequency")).isEqualTo("30m");
+        assertThat(element(xml, "temptables").getAttribute("maxsize")).isEqualTo("200");
+        assertThat(element(xml, "query").getAttribute("timeout")).isEqualTo("10000");
+        assertThat(element(xml, "flushinterval").getAttribute("minimum")).isEqualTo("500");
+        assertThat(element(xml, "export").getAttribute("interval")).isEqualTo("1000");
+        assertThat(element(xml, "property").getTextContent()).isEqualTo("4");
+        assertThat(element(xml, "metrics").getAttribute("interval")).isEqualTo("5s");
+    }
+
+    @Test
+    void mergeIntoKeepsUnsetSettings() throws Exception {
+        // Given
+        String existing = """
+                <?xml version="1.0"?>
+                <deployment>
+                    <cluster hostcount="2" sitesperhost="6" kfactor="1"/>
+                    <users><user name="admin" password="admin" roles="administrator"/></users>
+                </deployment>
+                """;
+
+        // When
+        String xml = new DeploymentBuilder().withSitesPerHost(2).mergeInto(existing);
+
+        // Then
+        Element cluster = element(xml, "cluster");
+        assertThat(cluster.getAttribute("sitesperhost")).isEqualTo("2");
+        assertThat(cluster.getAttribute("hostcount")).isEqualTo("2");
+        assertThat(cluster.getAttribute("kfactor")).isEqualTo("1");
+        assertThat(element(xml, "user").getAttribute("name")).isEqualTo("admin");
+    }
+
+    @Test
+    void mergeIntoRejectsInvalidDeployments() {
+        // Given
+        DeploymentBuilder builder = new DeploymentBuilder().withKfactor(2);
+
+        // When / Then
+        assertThatThrownBy(() -> builder.mergeInto("<deployment><cluster hostcount=\"2\"/></deployment>"))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("kfactor");
+        assertThatThrownBy(() -> builder.mergeInto("<deployment>"))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> builder.mergeInto("<cluster/>"))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    void copyIsIndependent() throws Exception {
+        // Given
+        DeploymentBuilder original = new DeploymentBuilder().withSitesPerHost(4);
+
+        // When
+        DeploymentBuilder copy = original.copy().withSitesPerHost(2);
+
+        // Then
+        assertThat(element(original.build(), "cluster").getAttribute("sitesperhost")).isEqualTo("4");
+        assertThat(element(copy.build(), "cluster").getAttribute("sitesperhost")).isEqualTo("2");
+    }
+
+    @Test
+    void settersRejectOutOfRangeValues() {
+        // Given
+        DeploymentBuilder builder = new DeploymentBuilder();
+
+        // When / Then
+        assertThatThrownBy(() -> builder.withSitesPerHost(0)).isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> builder.withSnapshots("often", 2)).isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> builder.withKfactor(-1)).isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    void overlayPrefersOverridesAndKeepsProfileDefaults() throws Exception {
+        // Given
+        DeploymentBuilder profile = Profile.FAST_TEST.deployment(4);
+        DeploymentBuilder overrides = new DeploymentBuilder().withSitesPerHost(2);
+
+        // When
+        String xml = profile.overlay(overrides).build();
+
+        // Then
+        assertThat(element(xml, "cluster").getAttribute("sitesperhost")).isEqualTo("2");
+        assertThat(element(xml, "commandlog").getAttribute("enabled")).isEqualTo("false");
+        assertThat(element(xml, "metrics").getAttribute("enabled")).isEqualTo("false");
+        assertThat(profile.overlay(overrides).getHeapMaxMb()).isEqualTo(1024);
+    }
+}
@@ -0,0 +1,103 @@
+/*
+ * Copyright (C) 2025-2026 Volt Active Data Inc.
+ *
+ * Use of this source code is governed by an MIT
+ * license that can be found in the LICENSE file or at
+ * https://opensource.org/licenses/MIT.
+ */
+package org.voltdbtest.testcontainer;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.testcontainers.images.builder.Transferable;
+import org.testcontainers.utility.MountableFile;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Unit tests for the {@link InitCache} key.
+ */
+public class InitCacheTest {
+
+    @TempDir
+    Path tempDir;
+
+    @Test
+    void keyIsStableForIdenticalInputs() throws IOException {
+        // Given
+        Path schema = Files.writeString(tempDir.resolve("schema.ddl"), "CREATE TABLE t (id INTEGER);");
+
+        // When
+        String first = InitCache.key(VoltDBContainer.DEV_IMAGE, List.of(
+                Map.entry("/etc/deployment.xml", Transferable.of("<deployment/>")),
+                Map.entry("/etc/schemas/schema.ddl", MountableFile.forHostPath(schema))));
+        String second = InitCache.key(VoltDBContainer.DEV_IMAGE, List.of(
+                Map.entry("/etc/deployment.xml", Transferable.of("<deployment/>")),
+                Map.entry("/etc/schemas/schema.ddl", MountableFile.forHostPath(schema))));
+
+        // Then
+        assertThat(first).isEqualTo(second).hasSize(64);
+    }
+
+    @Test
+    void keyChangesWhenSchemaContentChanges() throws IOException {
+        // Given
+        Path schema = tempDir.resolve("schema.ddl");
+        Files.writeString(schema, "CREATE TABLE t (id INTEGER);");
+        List<Map.Entry<String, Transferable>> inputs =
+                List.of(Map.entry("/etc/schemas/schema.ddl", MountableFile.forHostPath(schema)));
+        String before = InitCache.key(VoltDBContainer.DEV_IMAGE, inputs);
+
+        // When
+        Files.writeString(schema, "CREATE TABLE t (id BIGINT);");
+        String after = InitCache.key(VoltDBContainer.DEV_IMAGE, inputs);
+
+        // Then
+        assertThat(after).isNotEqualTo(before);
+    }
+
+    @Test
+    void keyChangesWithImageAndPath() {
+        // Given
+        List<Map.Entry<String, Transferable>> inputs =
+                List.of(Map.entry("/etc/deployment.xml", Transferable.of("<deployment/>")));
+
+        // When
+        String dev = InitCache.key(VoltDBContainer.DEV_IMAGE, inputs);
+        String enterprise = InitCache.key("voltdb/voltdb-enterprise", inputs);
+        String moved = InitCache.key(VoltDBContainer.DEV_IMAGE,
+                List.of(Map.entry("/etc/other.xml", Transferable.of("<deployment/>"))));
+
+        // Then
+        assertThat(enterprise).isNotEqualTo(dev);
+        assertThat(moved).isNotEqualTo(dev);
+    }
+
+    @Test
+    void keyHashesDirectoryContentsButNotTimestamps() throws IOException {
+        // Given
+        Path classes = Files.createDirectories(tempDir.resolve("classes"));
+        Path jar = Files.writeString(classes.resolve("procs.jar"), "jar bytes");
+        Files.writeString(classes.resolve("other.jar"), "other bytes");
+        List<Map.Entry<String, Transferable>> inputs =
+                List.of(Map.entry("/etc/classes", MountableFile.forHostPath(classes)));
+        String before = InitCache.key(VoltDBContainer.DEV_IMAGE, inputs);
+
+        // When
+        Files.setLastModifiedTime(jar, FileTime.fromMillis(0));
+        String touched = InitCache.key(VoltDBContainer.DEV_IMAGE, inputs);
+        Files.writeString(jar, "new jar bytes");
+        String changed = InitCache.key(VoltDBContainer.DEV_IMAGE, inputs);
+
+        // Then
+        assertThat(touched).isEqualTo(before);
+        assertThat(changed).isNotEqualTo(before);
+    }
+}
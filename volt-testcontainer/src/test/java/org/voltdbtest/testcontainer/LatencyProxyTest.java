@@ -0,0 +1,113 @@
+/*
+ * Copyright (C) 2025-2026 Volt Active Data Inc.
+ *
+ * Use of this source code is governed by an MIT
+ * license that can be found in the LICENSE file or at
+ * https://opensource.org/licenses/MIT.
+ */
+package org.voltdbtest.testcontainer;
+
+import org.junit.jupiter.api.Test;
+
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.InetAddress;
+import java.net.ServerSocket;
+import java.net.Socket;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Unit tests for {@link LatencyProxy} and {@link LinkProfile}.
+ */
+public class LatencyProxyTest {
+
+    @Test
+    void proxyDelaysBothDirectionsAndKeepsData() throws Exception {
+        // Given
+        try (ServerSocket echo = new ServerSocket(0, 50, InetAddress.getLoopbackAddress())) {
+            Thread server = new Thread(() -> {
+                try (Socket socket = echo.accept()) {
+                    socket.getInputStream().transferTo(socket.getOutputStream());
+                } catch (Exception e) {
+                    // test finished
+                }
+            });
+            server.setDaemon(true);
+            server.start();
+            LinkProfile profile = LinkProfile.of(Duration.ofMillis(50), Duration.ZERO, 0, 0);
+
+            try (LatencyProxy proxy = new LatencyProxy("localhost", echo.getLocalPort(), profile);
+                 Socket client = new Socket(InetAddress.getLoopbackAddress(), proxy.getPort())) {
+                OutputStream out = client.getOutputStream();
+                InputStream in = client.getInputStream();
+                byte[] message = "ping".getBytes(StandardCharsets.UTF_8);
+
+                // When
+                long start = System.nanoTime();
+                out.write(message);
+                out.flush();
+                byte[] reply = in.readNBytes(message.length);
+                Duration roundTrip = Duration.ofNanos(System.nanoTime() - start);
+
+                // Then
+                assertThat(reply).isEqualTo(message);
+                assertThat(roundTrip).isGreaterThanOrEqualTo(Duration.ofMillis(100));
+            }
+        }
+    }
+
+    @Test
+    void proxyForwardsMoreThanItQueues() throws Exception {
+        // Given
+        try (ServerSocket echo = new ServerSocket(0, 50, InetAddress.getLoopbackAddress())) {
+            Thread server = new Thread(() -> {
+                try (Socket socket = echo.accept()) {
+                    socket.getInputStream().transferTo(socket.getOutputStream());
+                } catch (Exception e) {
+                    // test finished
+                }
+            });
+            server.setDaemon(true);
+            server.start();
+            LinkProfile profile = LinkProfile.of(Duration.ofMillis(1), Duration.ZERO, 0, 0);
+            byte[] payload = new byte[4 * 1024 * 1024];
+            for (int i = 0; i < payload.length; i++) {
+                payload[i] = (byte) i;
+            }
+
+            try (LatencyProxy proxy = new LatencyProxy("localhost", echo.getLocalPort(), profile);
+                 Socket client = new Socket(InetAddress.getLoopbackAddress(), proxy.getPort())) {
+                Thread writer = new Thread(() -> {
+                    try {
+                        client.getOutputStream().write(payload);
+                        client.getOutputStream().flush();
+                    } catch (Exception e) {
+                        // surfaces as a short read below
+                    }
+                });
+                writer.setDaemon(true);
+
+                // When
+                writer.start();
+                byte[] reply = client.getInputStream().readNBytes(payload.length);
+
+                // Then
+                assertThat(reply).isEqualTo(payload);
+            }
+        }
+    }
+
+    @Test
+    void netemOptionsIncludeOnlySetConditions() {
+        // When
+        LinkProfile delayOnly = LinkProfile.of(Duration.ofMillis(2), Duration.ZERO, 0, 0);
+        LinkProfile full = LinkProfile.of(Duration.ofMillis(2), Duration.ofMillis(1), 100000, 0.5);
+
+        // Then
+        assertThat(delayOnly.netemOptions()).isEqualTo("delay 2000us");
+        assertThat(full.netemOptions()).isEqualTo("delay 2000us 1000us loss 0.5% rate 100000kbit");
+    }
+}
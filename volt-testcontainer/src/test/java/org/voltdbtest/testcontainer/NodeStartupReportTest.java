@@ -0,0 +1,72 @@
+/*
+ * Copyright (C) 2025-2026 Volt Active Data Inc.
+ *
+ * Use of this source code is governed by an MIT
+ * license that can be found in the LICENSE file or at
+ * https://opensource.org/licenses/MIT.
+ */
+package org.voltdbtest.testcontainer;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Unit tests for {@link NodeStartupReport} and {@link StartupReport}.
+ */
+public class NodeStartupReportTest {
+
+    @Test
+    void reportsOnlyObservedPhasesInOrder() {
+        // Given
+        NodeStartupReport report = new NodeStartupReport("host1");
+        report.mark(NodeStartupReport.Event.STARTED);
+        report.mark(NodeStartupReport.Event.IMAGE_RESOLVED);
+        report.mark(NodeStartupReport.Event.START_EXEC);
+        report.mark(NodeStartupReport.Event.BOOTED);
+
+        // When
+        var phases = report.getPhases();
+
+        // Then
+        assertThat(phases.keySet()).containsExactly(
+                NodeStartupReport.Phase.IMAGE_RESOLUTION,
+                NodeStartupReport.Phase.VOLTDB_START);
+        assertThat(report.getTotal()).isGreaterThanOrEqualTo(Duration.ZERO);
+    }
+
+    @Test
+    void markKeepsFirstOccurrence() throws Exception {
+        // Given
+        NodeStartupReport report = new NodeStartupReport("host1");
+        report.mark(NodeStartupReport.Event.STARTED);
+        report.mark(NodeStartupReport.Event.IMAGE_RESOLVED);
+        Duration first = report.getPhases().get(NodeStartupReport.Phase.IMAGE_RESOLUTION);
+
+        // When
+        Thread.sleep(20);
+        report.mark(NodeStartupReport.Event.IMAGE_RESOLVED);
+
+        // Then
+        assertThat(report.getPhases().get(NodeStartupReport.Phase.IMAGE_RESOLUTION)).isEqualTo(first);
+    }
+
+    @Test
+    void toJsonIncludesNodes() {
+        // Given
+        NodeStartupReport node = new NodeStartupReport("host1");
+        node.mark(NodeStartupReport.Event.STARTED);
+        node.mark(NodeStartupReport.Event.IMAGE_RESOLVED);
+        StartupReport report = new StartupReport(Duration.ofMillis(1500), Duration.ofMillis(200), List.of(node));
+
+        // When
+        String json = report.toJson();
+
+        // Then
+        assertThat(json).startsWith("{\"elapsedMillis\":1500,\"imageResolutionMillis\":200,\"nodes\":[{\"host\":\"host1\"");
+        assertThat(json).contains("\"phases\":{\"IMAGE_RESOLUTION\":");
+    }
+}
@@ -0,0 +1,183 @@
+/*
+ * Copyright (C) 2025-2026 Volt Active Data Inc.
+ *
+ * Use of this source code is governed by an MIT
+ * license that can be found in the LICENSE file or at
+ * https://opensource.org/licenses/MIT.
+ */
+package org.voltdbtest.testcontainer;
+
+import org.junit.jupiter.api.Test;
+import org.voltdb.client.Client2;
+import org.voltdb.client.ClientResponse;
+
+import java.lang.reflect.Proxy;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * Unit tests for {@link ProcedurePipeline}, run against an in-memory {@link Client2}
+ * that completes calls on a background thread.
+ */
+public class ProcedurePipelineTest {
+
+    /**
+     * Client that answers every call with a response whose status string is the first parameter,
+     * failing calls whose first parameter is "fail".
+     */
+    private static final class FakeClient {
+        final AtomicInteger inFlight = new AtomicInteger();
+        final AtomicInteger maxInFlight = new AtomicInteger();
+        final AtomicInteger calls = new AtomicInteger();
+        final ExecutorService completer = Executors.newSingleThreadExecutor();
+
+        Client2 proxy() {
+            return (Client2) Proxy.newProxyInstance(getClass().getClassLoader(), new Class<?>[]{Client2.class},
+                    (p, method, args) -> {
+                        if (!method.getName().equals("callProcedureAsync")) {
+                            throw new UnsupportedOperationException(method.getName());
+                        }
+                        Object[] params = (Object[]) args[1];
+                        String value = String.valueOf(params[0]);
+                        calls.incrementAndGet();
+                        maxInFlight.accumulateAndGet(inFlight.incrementAndGet(), Math::max);
+                        CompletableFuture<ClientResponse> future = new CompletableFuture<>();
+                        completer.execute(() -> {
+                            inFlight.decrementAndGet();
+                            if (value.equals("fail")) {
+                                future.completeExceptionally(new IllegalStateException("failed " + value));
+                            } else {
+                                future.complete(response(value));
+                            }
+                        });
+                        return future;
+                    });
+        }
+
+        private static ClientResponse response(String value) {
+            return (ClientResponse) Proxy.newProxyInstance(ProcedurePipelineTest.class.getClassLoader(),
+                    new Class<?>[]{ClientResponse.class}, (p, method, args) -> {
+                        if (method.getName().equals("getStatusString")) {
+                            return value;
+                        }
+                        if (method.getName().equals("getStatus")) {
+                            return ClientResponse.SUCCESS;
+                        }
+                        throw new UnsupportedOperationException(method.getName());
+                    });
+        }
+    }
+
+    @Test
+    void responsesAreReturnedInInvocationOrderWithinTheWindow() throws Exception {
+        // Given
+        FakeClient client = new FakeClient();
+        List<ProcedureInvocation> invocations = IntStream.range(0, 2000)
+                .mapToObj(i -> ProcedureInvocation.of("Insert", "row-" + i))
+                .collect(Collectors.toList());
+
+        // When
+        List<ClientResponse> responses = ProcedurePipeline.submit(client.proxy(), invocations.iterator(), 16)
+                .get(30, TimeUnit.SECONDS);
+
+        // Then
+        assertThat(responses).hasSize(2000);
+        assertThat(responses.get(0).getStatusString()).isEqualTo("row-0");
+        assertThat(responses.get(1999).getStatusString()).isEqualTo("row-1999");
+        assertThat(client.maxInFlight.get()).isLessThanOrEqualTo(16);
+        client.completer.shutdown();
+    }
+
+    @Test
+    void windowIsCappedAtTheClientOutstandingLimit() throws Exception {
+        // Given
+        FakeClient client = new FakeClient();
+        client.completer.execute(() -> sleep(200));
+
+        // When
+        ProcedurePipeline.submit(client.proxy(), IntStream.range(0, 3000)
+                        .mapToObj(i -> ProcedureInvocation.of("Insert", "row-" + i)).iterator(), 5000)
+                .get(30, TimeUnit.SECONDS);
+
+        // Then
+        assertThat(client.maxInFlight.get()).isEqualTo(ProcedurePipeline.MAX_WINDOW);
+        client.completer.shutdown();
+    }
+
+    @Test
+    void countingVariantHandsOutEveryResponseAndCountsTheCalls() throws Exception {
+        // Given
+        FakeClient client = new FakeClient();
+        LongAdder seen = new LongAdder();
+
+        // When
+        long calls = ProcedurePipeline.submit(client.proxy(), IntStream.range(0, 5000)
+                        .mapToObj(i -> ProcedureInvocation.of("Insert", "row-" + i)).iterator(), 64,
+                        response -> seen.increment())
+                .get(30, TimeUnit.SECONDS);
+
+        // Then
+        assertThat(calls).isEqualTo(5000);
+        assertThat(seen.sum()).isEqualTo(5000);
+        assertThat(client.maxInFlight.get()).isLessThanOrEqualTo(64);
+        client.completer.shutdown();
+    }
+
+    @Test
+    void emptySequenceCompletesWithNoResponses() throws Exception {
+        // When
+        List<ClientResponse> responses = ProcedurePipeline.submit(new FakeClient().proxy(),
+                new ConcurrentLinkedQueue<ProcedureInvocation>().iterator(), 8).get(30, TimeUnit.SECONDS);
+
+        // Then
+        assertThat(responses).isEmpty();
+    }
+
+    @Test
+    void submissionStopsAfterTheFirstFailure() {
+        // Given
+        FakeClient client = new FakeClient();
+        List<ProcedureInvocation> invocations = new ArrayList<>();
+        invocations.add(ProcedureInvocation.of("Insert", "fail"));
+        IntStream.range(0, 10_000).forEach(i -> invocations.add(ProcedureInvocation.of("Insert", "row-" + i)));
+
+        // When
+        CompletableFuture<List<ClientResponse>> result =
+                ProcedurePipeline.submit(client.proxy(), invocations.iterator(), 1);
+
+        // Then
+        assertThatThrownBy(() -> result.get(30, TimeUnit.SECONDS)).hasRootCauseMessage("failed fail");
+        assertThat(client.calls.get()).isLessThan(invocations.size());
+        client.completer.shutdown();
+    }
+
+    @Test
+    void windowMustBePositive() {
+        // Given
+        FakeClient client = new FakeClient();
+
+        // When / Then
+        assertThatThrownBy(() -> ProcedurePipeline.submit(client.proxy(), new ConcurrentLinkedQueue<ProcedureInvocation>().iterator(), 0))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    private static void sleep(long millis) {
+        try {
+            Thread.sleep(millis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
@@ -580,4 +580,80 @@ public class VoltDBContainerTest {
         }
         return count;
     }
+
+    @Test
+    void configureAgainDoesNotChangeTheInitCacheInputs() throws IOException {
+        // Given
+        VoltDBContainer container = createContainer();
+        container.configure();
+        String first = container.configurationFingerprint();
+
+        // When, as on a restart
+        container.configure();
+
+        // Then
+        assertThat(container.configurationFingerprint()).isEqualTo(first);
+    }
+
+    @Test
+    void fingerprintIsTheSameBeforeAndAfterAStart() throws IOException {
+        // Given
+        VoltDBContainer container = createContainer().withCpus(2);
+        String beforeStart = container.configurationFingerprint();
+
+        // When, as start() does
+        container.configure();
+
+        // Then
+        assertThat(container.configurationFingerprint()).isEqualTo(beforeStart);
+        assertThat(createContainer().withCpus(3).configurationFingerprint()).isNotEqualTo(beforeStart);
+    }
+
+    @Test
+    void phaseMarkersAreOnlyLoggedWithAStartupReport() throws IOException {
+        // Given
+        VoltDBContainer plain = createContainer();
+        VoltDBContainer reported = createContainer().withStartupReport(true);
+
+        // When
+        plain.configure();
+        reported.configure();
+
+        // Then
+        assertThat(plain.getEnvMap().get("VOLTDB_PHASE_MARKERS")).isEmpty();
+        assertThat(reported.getEnvMap().get("VOLTDB_PHASE_MARKERS")).isEqualTo("true");
+    }
+
+    @Test
+    void configureAgainAddsNoContainerCmdModifiers() throws IOException {
+        // Given
+        VoltDBContainer container = createContainer()
+                .withDataDirectory(DataDirectory.volume("voltdata"))
+                .withMemory(1024);
+        container.configure();
+        int modifiers = container.getCreateContainerCmdModifiers().size();
+
+        // When, as on a restart
+        container.configure();
+
+        // Then
+        assertThat(container.getCreateContainerCmdModifiers()).hasSize(modifiers);
+    }
+
+    @Test
+    void configureAgainRegeneratesTheDeployment() throws IOException {
+        // Given
+        VoltDBContainer container = createContainer();
+        container.configure();
+
+        // When, as on a restart after changing the CPU limit
+        container.withCpus(3);
+        container.configure();
+        VoltDBContainer node = container.newNode(1, 2, "--ignore=thp --count=2 --host=host-0 --add");
+        node.configure();
+
+        // Then
+        assertThat(container.getConfiguredDeployment()).contains("sitesperhost=\"3\"");
+        assertThat(node.getConfiguredDeployment()).contains("hostcount=\"2\"");
+    }
 }
@@ -0,0 +1,90 @@
+/*
+ * Copyright (C) 2025-2026 Volt Active Data Inc.
+ *
+ * Use of this source code is governed by an MIT
+ * license that can be found in the LICENSE file or at
+ * https://opensource.org/licenses/MIT.
+ */
+package org.voltdbtest.testcontainer;
+
+import org.junit.jupiter.api.Test;
+import org.testcontainers.containers.ContainerLaunchException;
+import org.voltdb.VoltTable;
+import org.voltdb.VoltType;
+import org.voltdb.client.Client2;
+import org.voltdb.client.ClientResponse;
+
+import java.lang.reflect.Proxy;
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * Unit tests for the cluster membership check of {@link VoltDBWaitStrategy}.
+ */
+public class VoltDBWaitStrategyTest {
+
+    @Test
+    void singleNodeIsReadyAtTheFirstPoll() throws Exception {
+        // Given
+        AtomicInteger polls = new AtomicInteger();
+        Client2 client = clientSeeing(polls, 1);
+
+        // When
+        new VoltDBWaitStrategy().waitForHosts(client, 1, System.currentTimeMillis() + 10_000);
+
+        // Then
+        assertThat(polls).hasValue(1);
+    }
+
+    @Test
+    void waitsUntilEveryHostHasJoined() throws Exception {
+        // Given
+        AtomicInteger polls = new AtomicInteger();
+        Client2 client = clientSeeing(polls, 1, 2, 3);
+
+        // When
+        new VoltDBWaitStrategy().waitForHosts(client, 3, System.currentTimeMillis() + 10_000);
+
+        // Then
+        assertThat(polls).hasValue(3);
+    }
+
+    @Test
+    void timeoutNamesTheExpectedAndJoinedHosts() {
+        // Given
+        Client2 client = clientSeeing(new AtomicInteger(), 2);
+        VoltDBWaitStrategy strategy = (VoltDBWaitStrategy) new VoltDBWaitStrategy()
+                .withStartupTimeout(Duration.ofMillis(300));
+
+        // When / Then
+        assertThatThrownBy(() -> strategy.waitForHosts(client, 3, System.currentTimeMillis() + 300))
+                .isInstanceOf(ContainerLaunchException.class)
+                .hasMessage("Timed out after PT0.3S waiting for 3 VoltDB hosts to join, saw 2");
+    }
+
+    /**
+     * A client whose n-th {@code @SystemInformation OVERVIEW} lists the n-th host count, then the last one.
+     */
+    private static Client2 clientSeeing(AtomicInteger polls, int... hostCounts) {
+        return (Client2) Proxy.newProxyInstance(Client2.class.getClassLoader(), new Class<?>[]{Client2.class},
+                (proxy, method, args) -> {
+                    int poll = polls.getAndIncrement();
+                    VoltTable overview = new VoltTable(
+                            new VoltTable.ColumnInfo("HOST_ID", VoltType.INTEGER),
+                            new VoltTable.ColumnInfo("KEY", VoltType.STRING),
+                            new VoltTable.ColumnInfo("VALUE", VoltType.STRING));
+                    for (int host = 0; host < hostCounts[Math.min(poll, hostCounts.length - 1)]; host++) {
+                        // several rows per host, as the real procedure returns
+                        overview.addRow(host, "HOSTNAME", "host-" + host);
+                        overview.addRow(host, "CLUSTERSTATE", "RUNNING");
+                    }
+                    return Proxy.newProxyInstance(ClientResponse.class.getClassLoader(),
+                            new Class<?>[]{ClientResponse.class},
+                            (response, getter, none) -> "getResults".equals(getter.getName())
+                                    ? new VoltTable[]{overview} : null);
+                });
+    }
+}